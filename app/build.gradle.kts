@@ -28,6 +28,9 @@ android {
         versionName = "1.0"
 
         testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+
+        // Draw the playground chips onto one canvas instead of one view per chip
+        buildConfigField("boolean", "CANVAS_PLAYGROUND", "false")
     }
 
     buildTypes {
@@ -3,6 +3,7 @@ package de.thm.mixit.data.source;
 import androidx.test.espresso.idling.CountingIdlingResource;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import de.thm.mixit.data.entity.Element;
@@ -25,6 +26,14 @@ public class ElementRemoteDataSource {
         return idling;
     }
 
+    public static CompletableFuture<Void> initialize() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public static CompletableFuture<Void> preconnect() {
+        return CompletableFuture.completedFuture(null);
+    }
+
     public static void combine(String element1, String element2,
                                Consumer<Result<Element>> callback) {
         idling.increment();
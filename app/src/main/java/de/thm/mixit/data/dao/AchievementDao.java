@@ -0,0 +1,39 @@
+package de.thm.mixit.data.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import java.util.List;
+
+import de.thm.mixit.data.entity.AchievementRecord;
+
+/**
+ * This DAO (data access object) defines methods to be used on {@link AchievementRecord}'s.
+ */
+@Dao
+public interface AchievementDao {
+
+    /**
+     * Returns all saved achievements.
+     *
+     * @return A list of {@link AchievementRecord}
+     */
+    @Query("SELECT * FROM achievements")
+    List<AchievementRecord> getAll();
+
+    /**
+     * Inserts the given achievements or replaces the saved state of existing ones.
+     *
+     * @param achievements achievements to save.
+     */
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void upsertAll(List<AchievementRecord> achievements);
+
+    /**
+     * Deletes all {@link AchievementRecord}'s from the database.
+     */
+    @Query("DELETE FROM achievements")
+    void deleteAll();
+}
@@ -7,6 +7,7 @@ import androidx.room.Query;
 import java.util.List;
 
 import de.thm.mixit.data.entity.Combination;
+import de.thm.mixit.data.model.ElementUsage;
 
 /**
  * This DAO (data access object) defines methods to be used on {@link Combination}'s.
@@ -43,6 +44,26 @@ public interface CombinationDao {
             "ORDER BY number DESC LIMIT 1")
     Integer getAmountOfMostOccurringOutputId();
 
+    /**
+     * Returns the usage of all elements which are the output of at least one combination.
+     * Only reads the index on {@code outputId}, which contains the row id as well.
+     *
+     * @return A list of {@link ElementUsage}
+     */
+    @Query("SELECT outputId AS elementId, COUNT(*) AS uses, MAX(rowid) AS lastUsed " +
+            "FROM combinations GROUP BY outputId")
+    List<ElementUsage> getUsages();
+
+    /**
+     * Returns the usage of one element.
+     *
+     * @param outputId The id of the element.
+     * @return The {@link ElementUsage}, with zero uses if no combination produces the element.
+     */
+    @Query("SELECT :outputId AS elementId, COUNT(*) AS uses, " +
+            "IFNULL(MAX(rowid), 0) AS lastUsed FROM combinations WHERE outputId = :outputId")
+    ElementUsage getUsage(int outputId);
+
     /**
      * Inserts one {@link Combination} into the database.
      *
@@ -24,6 +24,25 @@ public interface ElementDao {
     @Query("SELECT * FROM elements")
     List<Element> getAll();
 
+    /**
+     * Returns the next page of elements ordered by id, using the last id of the previous page
+     * as key. Unlike an offset, the key stays valid when new elements are inserted.
+     *
+     * @param afterId The id of the last element of the previous page or 0 for the first page.
+     * @param limit The maximum number of elements of the page.
+     * @return A list of {@link Element} with an id greater than {@code afterId}
+     */
+    @Query("SELECT * FROM elements WHERE id > :afterId ORDER BY id LIMIT :limit")
+    List<Element> getPage(int afterId, int limit);
+
+    /**
+     * Returns the number of elements inside the database.
+     *
+     * @return The number of elements.
+     */
+    @Query("SELECT COUNT(*) FROM elements")
+    int count();
+
     /**
      * Returns one {@link Element} which has a specific {@code id}.
      *
@@ -0,0 +1,34 @@
+package de.thm.mixit.data.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import de.thm.mixit.data.entity.Recipe;
+
+/**
+ * This DAO (data access object) defines methods to be used on {@link Recipe}'s.
+ */
+@Dao
+public interface RecipeDao {
+
+    /**
+     * Returns the {@link Recipe} which has {@code inputA} and {@code inputB}.
+     * Compares exactly, so the lookup only reads the primary key.
+     *
+     * @param inputA The first input string.
+     * @param inputB The second input string.
+     * @return The {@link Recipe} or {@code null} if the combination is not known yet.
+     */
+    @Query("SELECT * FROM recipes WHERE inputA = :inputA AND inputB = :inputB")
+    Recipe find(String inputA, String inputB);
+
+    /**
+     * Inserts a {@link Recipe} unless a recipe for the same inputs exists already.
+     *
+     * @param recipe recipe to insert into the database.
+     */
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    void insertIfAbsent(Recipe recipe);
+}
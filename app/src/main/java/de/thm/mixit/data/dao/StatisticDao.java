@@ -0,0 +1,119 @@
+package de.thm.mixit.data.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import java.util.List;
+
+import de.thm.mixit.data.entity.StatisticRecord;
+import de.thm.mixit.data.entity.TargetWord;
+
+/**
+ * This DAO (data access object) defines methods to be used on the {@link StatisticRecord}
+ * and the last {@link TargetWord}'s.
+ * <p>
+ * Every update only touches the affected columns and is evaluated by SQLite itself, so
+ * increments and records (maximum / minimum values) are atomic and safe to call from
+ * multiple threads.
+ */
+@Dao
+public interface StatisticDao {
+
+    /**
+     * Returns the statistic row.
+     *
+     * @return The {@link StatisticRecord} or {@code null} if it has not been created yet.
+     */
+    @Query("SELECT * FROM statistics WHERE id = 0")
+    StatisticRecord get();
+
+    /**
+     * Replaces the statistic row, e.g. with default values to reset it.
+     *
+     * @param record the new values.
+     */
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void replace(StatisticRecord record);
+
+    @Query("UPDATE statistics SET playtime = playtime + :hours WHERE id = 0")
+    void addPlaytime(float hours);
+
+    @Query("UPDATE statistics SET numberOfCombinations = numberOfCombinations + :count " +
+            "WHERE id = 0")
+    void addCombinations(long count);
+
+    /**
+     * Stores the given name as longest element if it is longer than the current one.
+     *
+     * @param name name of a newly created element.
+     */
+    @Query("UPDATE statistics SET longestElement = :name " +
+            "WHERE id = 0 AND LENGTH(:name) > LENGTH(longestElement)")
+    void updateLongestElement(String name);
+
+    @Query("UPDATE statistics SET numberOfUnlockedElements = " +
+            "MAX(numberOfUnlockedElements, :count) WHERE id = 0")
+    void updateNumberOfUnlockedElements(int count);
+
+    /**
+     * Adds the number of discarded elements to the total and updates the record
+     * of the most discarded elements at once.
+     *
+     * @param count number of elements discarded at once.
+     */
+    @Query("UPDATE statistics SET " +
+            "numberOfDiscardedElements = numberOfDiscardedElements + :count, " +
+            "mostDiscardedElements = MAX(mostDiscardedElements, :count) WHERE id = 0")
+    void addDiscardedElements(int count);
+
+    @Query("UPDATE statistics SET mostCombinationsForOneElement = " +
+            "MAX(mostCombinationsForOneElement, :count) WHERE id = 0")
+    void updateMostCombinationsForOneElement(int count);
+
+    /**
+     * Counts a won arcade game and updates the time and turn records.
+     *
+     * @param time passed time in seconds.
+     * @param turns taken turns.
+     */
+    @Query("UPDATE statistics SET arcadeGamesWon = arcadeGamesWon + 1, " +
+            "shortestArcadeTimeToBeat = MIN(shortestArcadeTimeToBeat, :time), " +
+            "fewestArcadeTurnsToBeat = MIN(fewestArcadeTurnsToBeat, :turns) WHERE id = 0")
+    void addArcadeWin(long time, int turns);
+
+    @Query("UPDATE statistics SET foundChocolateCake = 1 WHERE id = 0")
+    void setFoundChocolateCake();
+
+    /**
+     * Returns the saved target words, oldest first.
+     *
+     * @return A list of target words.
+     */
+    @Query("SELECT word FROM target_words ORDER BY id")
+    List<String> getTargetWords();
+
+    /**
+     * Returns the most recently saved target word.
+     *
+     * @return The last target word or {@code null} if none is saved.
+     */
+    @Query("SELECT word FROM target_words ORDER BY id DESC LIMIT 1")
+    String getLastTargetWord();
+
+    @Insert
+    void insertTargetWord(TargetWord targetWord);
+
+    /**
+     * Deletes all but the newest {@code keep} target words.
+     *
+     * @param keep number of target words to keep.
+     */
+    @Query("DELETE FROM target_words WHERE id NOT IN " +
+            "(SELECT id FROM target_words ORDER BY id DESC LIMIT :keep)")
+    void trimTargetWords(int keep);
+
+    @Query("DELETE FROM target_words")
+    void deleteTargetWords();
+}
@@ -0,0 +1,69 @@
+package de.thm.mixit.data.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * Represents the persisted state of one {@link Achievement} inside the {@code GlobalDatabase}.
+ * <p>
+ * {@code type} Either {@link #TYPE_BINARY} or {@link #TYPE_PROGRESS}, decides which subclass
+ * of {@link Achievement} is restored.
+ * <br>
+ * {@code currentProgress} and {@code targetProgress} are only used by
+ * {@link ProgressAchievement}, {@code unlocked} only by {@link BinaryAchievement}.
+ */
+@Entity(tableName = "achievements")
+public class AchievementRecord {
+    public static final String TYPE_BINARY = "binary";
+    public static final String TYPE_PROGRESS = "progress";
+
+    @PrimaryKey
+    public int id;
+
+    @NonNull
+    public String type = TYPE_BINARY;
+
+    public int nameResId;
+
+    public int descriptionResId;
+
+    public int currentProgress;
+
+    public int targetProgress;
+
+    public boolean unlocked;
+
+    /**
+     * Creates the record for the given achievement.
+     * @param achievement achievement to persist
+     * @return {@link AchievementRecord}
+     */
+    public static AchievementRecord from(Achievement achievement) {
+        AchievementRecord record = new AchievementRecord();
+        record.id = achievement.getId();
+        record.nameResId = achievement.getNameResId();
+        record.descriptionResId = achievement.getDescriptionResId();
+        if (achievement instanceof ProgressAchievement) {
+            record.type = TYPE_PROGRESS;
+            record.currentProgress = ((ProgressAchievement) achievement).getCurrentProgress();
+            record.targetProgress = ((ProgressAchievement) achievement).getTargetProgress();
+        } else {
+            record.type = TYPE_BINARY;
+        }
+        record.unlocked = achievement.isUnlocked();
+        return record;
+    }
+
+    /**
+     * Restores the achievement described by this record.
+     * @return {@link BinaryAchievement} or {@link ProgressAchievement} depending on the type
+     */
+    public Achievement toAchievement() {
+        if (TYPE_PROGRESS.equals(type)) {
+            return new ProgressAchievement(id, nameResId, descriptionResId, currentProgress,
+                    targetProgress);
+        }
+        return new BinaryAchievement(id, nameResId, descriptionResId, unlocked);
+    }
+}
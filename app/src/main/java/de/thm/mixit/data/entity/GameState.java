@@ -7,7 +7,7 @@ import de.thm.mixit.data.model.ElementChip;
 /**
  * Represents the data of the GameState, of the Arcade Game mode and Endless Game mode.
  * <p>
- * {@code time} Passed playtime.
+ * {@code timeMillis} Passed playtime in milliseconds.
  * <br>
  * {@code turns} Taken turns.
  * <br>
@@ -18,23 +18,30 @@ import de.thm.mixit.data.model.ElementChip;
  * @author Jannik Heimann
  */
 public class GameState {
-    private final long time;
+    private final long timeMillis;
     private final int turns;
     private String[] targetElement;
     private final ArrayList<ElementChip> elementChips;
 
-    public GameState(long time,
+    public GameState(long timeMillis,
                      int turns,
                      String[] targetElement,
                      ArrayList<ElementChip> elementChips) {
-        this.time = time;
+        this.timeMillis = timeMillis;
         this.turns = turns;
         this.targetElement = targetElement;
         this.elementChips = elementChips;
     }
 
+    /**
+     * @return passed playtime in full seconds
+     */
     public long getTime() {
-        return this.time;
+        return this.timeMillis / 1000;
+    }
+
+    public long getTimeMillis() {
+        return this.timeMillis;
     }
 
     public int getTurns() {
@@ -0,0 +1,63 @@
+package de.thm.mixit.data.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+
+/**
+ * Represents a known result of combining two inputs inside the {@code GlobalDatabase}.
+ * Unlike a {@link Combination} it does not belong to a game mode and stores the output itself
+ * instead of a reference to an {@link Element} of one game mode.
+ * <p>
+ * {@code inputA} First part of the primary-key.
+ * <br>
+ * {@code inputB} Second part of the primary-key.
+ * <br>
+ * {@code outputName} The name of the resulting element.
+ * <br>
+ * {@code outputEmoji} The emoji of the resulting element.
+ */
+@Entity(tableName = "recipes", primaryKeys = {"inputA", "inputB"})
+public class Recipe {
+    @NonNull
+    public String inputA;
+
+    @NonNull
+    public String inputB;
+
+    @NonNull
+    public String outputName;
+
+    @NonNull
+    public String outputEmoji;
+
+    /**
+     * Constructor for a new Recipe.
+     * The composite-key made up from {@code inputA} and {@code inputB} must be unique.
+     *
+     * @param inputA First part of the primary-key.
+     * @param inputB Second part of the primary-key.
+     * @param outputName The name of the resulting element.
+     * @param outputEmoji The emoji of the resulting element.
+     */
+    public Recipe(@NonNull String inputA, @NonNull String inputB,
+                  @NonNull String outputName, @NonNull String outputEmoji) {
+        this.inputA = inputA;
+        this.inputB = inputB;
+        this.outputName = outputName;
+        this.outputEmoji = outputEmoji;
+    }
+
+    /**
+     * Creates a new element, which is not stored yet, from the output of the recipe.
+     * @return the output element without an id.
+     */
+    public Element toElement() {
+        return new Element(outputName, outputEmoji);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return inputA + " + " + inputB + " -> " + outputEmoji + " " + outputName;
+    }
+}
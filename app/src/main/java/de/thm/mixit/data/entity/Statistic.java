@@ -28,24 +28,27 @@ import java.util.List;
  *  {@code shortestArcadeTimeToBeat} Fastest time the player beat the arcade game.
  *  <br>
  *  {@code fewestArcadeTurnsToBeat} Fewest turns needed by the player to beat the arcade mode.
+ * <p>
+ * A Statistic is a read-only snapshot. Changes are applied as partial updates through the
+ * {@link de.thm.mixit.data.repository.StatisticRepository}.
  *
  * @author Jannik Heimann
  */
 
 public class Statistic {
 
-    private static final int NUMBER_OF_GOAL_WORDS_SAVED = 20;
-    private float playtime;
-    private long numberOfCombinations;
-    private String longestElement;
-    private int numberOfUnlockedElements;
-    private long numberOfDiscardedElements;
-    private int mostDiscardedElements;
-    private int mostCombinationsForOneElement;
-    private int arcadeGamesWon;
-    private long shortestArcadeTimeToBeat;
-    private int fewestArcadeTurnsToBeat;
-    private boolean foundChocolateCake;
+    public static final int NUMBER_OF_GOAL_WORDS_SAVED = 20;
+    private final float playtime;
+    private final long numberOfCombinations;
+    private final String longestElement;
+    private final int numberOfUnlockedElements;
+    private final long numberOfDiscardedElements;
+    private final int mostDiscardedElements;
+    private final int mostCombinationsForOneElement;
+    private final int arcadeGamesWon;
+    private final long shortestArcadeTimeToBeat;
+    private final int fewestArcadeTurnsToBeat;
+    private final boolean foundChocolateCake;
     private final List<String> lastTargetWords;
 
     public Statistic(float playtime,
@@ -112,62 +115,6 @@ public class Statistic {
         return lastTargetWords;
     }
 
-    public void addPlaytime(double playTime) {
-        this.playtime += (float) playTime;
-    }
-
-    public void setNumberOfCombinations(long numberOfCombinations) {
-        this.numberOfCombinations = numberOfCombinations;
-    }
-
-    public void setLongestElement(String longestElement) {
-        if (longestElement.length() > this.longestElement.length())
-            this.longestElement = longestElement;
-    }
-
-    public void setNumberOfUnlockedElements(int numberOfUnlockedElements) {
-        // If statement needed, because max number could be from arcade or endless mode
-        if (numberOfUnlockedElements > this.numberOfUnlockedElements)
-            this.numberOfUnlockedElements = numberOfUnlockedElements;
-    }
-
-    public void setNumberOfDiscardedElements(long numberOfDiscardedElements) {
-        this.numberOfDiscardedElements = numberOfDiscardedElements;
-    }
-
-    public void setMostDiscardedElements(int mostDiscardedElements) {
-        if (mostDiscardedElements > this.mostDiscardedElements)
-            this.mostDiscardedElements = mostDiscardedElements;
-    }
-
-    public void setMostCombinationsForOneElement(int mostCombinationsForOneElement) {
-        if (mostCombinationsForOneElement > this.mostCombinationsForOneElement)
-            this.mostCombinationsForOneElement = mostCombinationsForOneElement;
-    }
-
-    public void setArcadeGamesWon(int numberWon) {
-        this.arcadeGamesWon = numberWon;
-    }
-
-    public void setShortestArcadeTimeToBeat(long time) {
-        if (time < shortestArcadeTimeToBeat)
-            this.shortestArcadeTimeToBeat = time;
-    }
-
-    public void setFewestArcadeTurnsToBeat(int turns) {
-        if (turns < fewestArcadeTurnsToBeat)
-            this.fewestArcadeTurnsToBeat = turns;
-    }
-
-    public void setFoundChocolateCake(boolean foundChocolateCake) {
-        this.foundChocolateCake = foundChocolateCake;
-    }
-
-    public void addTargetWord(String targetWords) {
-        lastTargetWords.add(targetWords);
-        if (lastTargetWords.size() > NUMBER_OF_GOAL_WORDS_SAVED) lastTargetWords.remove(0);
-    }
-
     /**
      * Override for Debug Purposes.
      */
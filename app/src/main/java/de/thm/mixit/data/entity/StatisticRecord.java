@@ -0,0 +1,47 @@
+package de.thm.mixit.data.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * Represents the single row of the statistics table inside the {@code GlobalDatabase}.
+ * <p>
+ * All counters are updated partially and atomically via SQL inside the
+ * {@link de.thm.mixit.data.dao.StatisticDao} instead of writing back a whole {@link Statistic}.
+ * The columns correspond to the attributes of {@link Statistic}, the last target words are
+ * stored separately as {@link TargetWord} rows.
+ */
+@Entity(tableName = "statistics")
+public class StatisticRecord {
+    /**
+     * There is only one statistic per installation which always uses this primary key.
+     */
+    public static final int ID = 0;
+
+    @PrimaryKey
+    public int id = ID;
+
+    public float playtime;
+
+    public long numberOfCombinations;
+
+    @NonNull
+    public String longestElement = "";
+
+    public int numberOfUnlockedElements;
+
+    public long numberOfDiscardedElements;
+
+    public int mostDiscardedElements;
+
+    public int mostCombinationsForOneElement;
+
+    public int arcadeGamesWon;
+
+    public long shortestArcadeTimeToBeat = Long.MAX_VALUE;
+
+    public int fewestArcadeTurnsToBeat = Integer.MAX_VALUE;
+
+    public boolean foundChocolateCake;
+}
@@ -0,0 +1,26 @@
+package de.thm.mixit.data.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * Represents one of the last target words of the arcade mode inside the
+ * {@code GlobalDatabase}.
+ * <p>
+ * {@code id} The primary key. Which is automatically generated and reflects the insertion order.
+ * <br>
+ * {@code word} The target word.
+ */
+@Entity(tableName = "target_words")
+public class TargetWord {
+    @PrimaryKey(autoGenerate = true)
+    public long id;
+
+    @NonNull
+    public String word;
+
+    public TargetWord(@NonNull String word) {
+        this.word = word;
+    }
+}
@@ -2,12 +2,20 @@ package de.thm.mixit.data.model;
 
 import androidx.annotation.NonNull;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import de.thm.mixit.data.entity.Element;
 
 
 /**
  * Represents a single element chip on the playground
  * Wraps a single {@link Element} object
+ * <p>
+ * The position is stored in normalized playground coordinates between 0 and 1, see
+ * {@link de.thm.mixit.domain.logic.PlaygroundCoordinates}.
+ * <p>
+ * A chip is identified by its id only. Two chips are equal if they have the same id, even if
+ * one of them was moved or loaded again from the saved game state.
  *
  * @author Josia Menger
  */
@@ -19,8 +27,10 @@ public class ElementChip {
      * to the data objects inside the viewmodel.
      * Since an element can have multiple instances on the playground
      * and we don't want to store views inside the viewmodel
+     * <p>
+     * Holds the id of the next created chip, chips may be created on any thread.
      */
-    private static int ID = 0;
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(0);
 
     private boolean isAnimated = false;
     private final int id;
@@ -38,11 +48,11 @@ public class ElementChip {
     /**
      * Create a new chip representing an element on the playground
      * @param element element model
-     * @param x current x position on the playground
-     * @param y current y position on the playground
+     * @param x current normalized x position on the playground
+     * @param y current normalized y position on the playground
      */
     public ElementChip(Element element, float x, float y) {
-        this.id = ID++;
+        this.id = NEXT_ID.getAndIncrement();
         this.element = element;
         this.x = x;
         this.y = y;
@@ -54,7 +64,7 @@ public class ElementChip {
      * @param element element model
      */
     public ElementChip(Element element) {
-        this.id = ID++;
+        this.id = NEXT_ID.getAndIncrement();
         this.element = element;
         this.x = -1;
         this.y = -1;
@@ -64,8 +74,12 @@ public class ElementChip {
         return id;
     }
 
+    /**
+     * Set the id of the next created chip, e.g. after the saved chips were loaded
+     * @param id id of the next chip
+     */
     public static void setId(int id) {
-        ID = id;
+        NEXT_ID.set(id);
     }
 
     public Element getElement() {
@@ -121,10 +135,13 @@ public class ElementChip {
 
     @Override
     public boolean equals(Object o) {
+        if (this == o) return true;
         if (!(o instanceof ElementChip)) return false;
-        return this.id == ((ElementChip) o).id
-                && this.element == ((ElementChip) o).element
-                && this.x == ((ElementChip) o).x
-                && this.y == ((ElementChip) o).y;
+        return this.id == ((ElementChip) o).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
     }
 }
@@ -0,0 +1,23 @@
+package de.thm.mixit.data.model;
+
+/**
+ * How often and how recently an element was the output of a combination.
+ * <p>
+ * {@code elementId} The id of the element.
+ * <br>
+ * {@code uses} Number of combinations producing the element.
+ * <br>
+ * {@code lastUsed} Row id of the newest combination producing the element or 0 if there is none.
+ * Row ids only grow, so a greater value means the element was produced more recently.
+ */
+public class ElementUsage {
+    public int elementId;
+    public int uses;
+    public long lastUsed;
+
+    public ElementUsage(int elementId, int uses, long lastUsed) {
+        this.elementId = elementId;
+        this.uses = uses;
+        this.lastUsed = lastUsed;
+    }
+}
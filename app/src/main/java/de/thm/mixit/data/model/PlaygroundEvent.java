@@ -0,0 +1,103 @@
+package de.thm.mixit.data.model;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A single change of the element chips on the playground.
+ * <p>
+ * Events are numbered by a version which grows by one per event. An observer which missed an
+ * event, e.g. because it was not active, notices the gap and reads the whole playground instead.
+ * A {@link Type#RESET} replaces the whole playground and has no chip.
+ * A {@link Type#COMBINATION_FAILED} only has the reactants, which stay on the playground.
+ */
+public class PlaygroundEvent {
+
+    public enum Type {
+        /** {@link #getChip()} was added */
+        ADDED,
+        /** {@link #getChip()} was removed */
+        REMOVED,
+        /** {@link #getChip()} got a new position */
+        MOVED,
+        /** Both reactants were replaced by their product {@link #getChip()} */
+        COMBINED,
+        /** Both reactants could not be combined and are not animated anymore */
+        COMBINATION_FAILED,
+        /** All chips were replaced */
+        RESET
+    }
+
+    private final Type type;
+    private final int version;
+    private final ElementChip chip;
+    private final ElementChip reactant1;
+    private final ElementChip reactant2;
+
+    private PlaygroundEvent(Type type, int version, ElementChip chip,
+                            ElementChip reactant1, ElementChip reactant2) {
+        this.type = type;
+        this.version = version;
+        this.chip = chip;
+        this.reactant1 = reactant1;
+        this.reactant2 = reactant2;
+    }
+
+    public static PlaygroundEvent added(int version, ElementChip chip) {
+        return new PlaygroundEvent(Type.ADDED, version, chip, null, null);
+    }
+
+    public static PlaygroundEvent removed(int version, ElementChip chip) {
+        return new PlaygroundEvent(Type.REMOVED, version, chip, null, null);
+    }
+
+    public static PlaygroundEvent moved(int version, ElementChip chip) {
+        return new PlaygroundEvent(Type.MOVED, version, chip, null, null);
+    }
+
+    public static PlaygroundEvent combined(int version, ElementChip product,
+                                           ElementChip reactant1, ElementChip reactant2) {
+        return new PlaygroundEvent(Type.COMBINED, version, product, reactant1, reactant2);
+    }
+
+    public static PlaygroundEvent combinationFailed(int version, ElementChip reactant1,
+                                                    ElementChip reactant2) {
+        return new PlaygroundEvent(Type.COMBINATION_FAILED, version, null, reactant1, reactant2);
+    }
+
+    public static PlaygroundEvent reset(int version) {
+        return new PlaygroundEvent(Type.RESET, version, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the changed chip or the product of a combination
+     */
+    public ElementChip getChip() {
+        return chip;
+    }
+
+    public ElementChip getReactant1() {
+        return reactant1;
+    }
+
+    public ElementChip getReactant2() {
+        return reactant2;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "PlaygroundEvent{" +
+                "type=" + type +
+                ", version=" + version +
+                ", chip=" + chip +
+                '}';
+    }
+}
@@ -3,9 +3,11 @@ package de.thm.mixit.data.repository;
 import android.content.Context;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import de.thm.mixit.data.entity.Achievement;
 import de.thm.mixit.data.source.AchievementLocalDataSource;
+import de.thm.mixit.data.source.GlobalDatabase;
 
 /**
  * Repository class that provides access to Achievement data.
@@ -28,15 +30,17 @@ public class AchievementRepository {
      * @return {@link AchievementRepository}
      */
     public static AchievementRepository create(Context context) {
-        return new AchievementRepository(new AchievementLocalDataSource(context));
+        return new AchievementRepository(new AchievementLocalDataSource(
+                GlobalDatabase.getInstance(context)));
     }
 
     /**
-     * Loads all saved Achievements by calling the load Method in the corresponding datasource.
-     * @return {@code List<Achievement>}
+     * Loads all saved Achievements asynchronously by calling the load Method in the
+     * corresponding datasource.
+     * @param callback The callback to receive the achievements.
      */
-    public List<Achievement> loadAchievements() {
-        return localDataSource.loadAchievements();
+    public void loadAchievements(Consumer<List<Achievement>> callback) {
+        localDataSource.loadAchievements(callback);
     }
 
     /**
@@ -3,10 +3,11 @@ package de.thm.mixit.data.repository;
 import android.content.Context;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
-import de.thm.mixit.data.dao.CombinationDao;
 import de.thm.mixit.data.entity.Combination;
+import de.thm.mixit.data.model.ElementUsage;
 import de.thm.mixit.data.model.Result;
 import de.thm.mixit.data.source.AppDatabase;
 import de.thm.mixit.data.source.CombinationLocalDataSource;
@@ -16,6 +17,9 @@ import de.thm.mixit.data.source.CombinationLocalDataSource;
  * <p>
  * Acts as a single source of truth for Combination data by delegating
  * data operations to a {@link CombinationLocalDataSource}.
+ * <p>
+ * The methods ending with {@code Async} return a {@link CompletableFuture} instead of taking a
+ * callback, so independent queries can be combined, run in parallel and cancelled.
  *
  * @author Justin Wolek
  */
@@ -40,8 +44,7 @@ public class CombinationRepository {
      */
     public static CombinationRepository create(Context context, boolean isArcade) {
         AppDatabase db = AppDatabase.getInstance(context, isArcade);
-        CombinationDao dao = db.combinationDAO();
-        return new CombinationRepository(new CombinationLocalDataSource(dao));
+        return new CombinationRepository(new CombinationLocalDataSource(db));
     }
 
     /**
@@ -73,6 +76,21 @@ public class CombinationRepository {
         localDataSource.findByCombination(inputA, inputB, callback);
     }
 
+    /**
+     * Finds a {@link Combination} by a combination of two input strings.
+     * The order of the input strings doesn't matter.
+     * @param inputA   The first input string of the combination.
+     * @param inputB   The second input string of the combination.
+     * @return A future completed with the found combination or {@code null}.
+     */
+    public CompletableFuture<Combination> findByCombinationAsync(String inputA, String inputB) {
+        // Words of combination are always saved in alphabetical order.
+        if (inputA.compareTo(inputB) > 0) {
+            return localDataSource.findByCombinationAsync(inputB, inputA);
+        }
+        return localDataSource.findByCombinationAsync(inputA, inputB);
+    }
+
     /**
      * Finds the Amount of the OutputId which occurs most often in the dataset.
      * @param callback The callback to receive the found OutputId
@@ -81,6 +99,32 @@ public class CombinationRepository {
         localDataSource.getAmountOfMostOccurringOutputId(callback);
     }
 
+    /**
+     * Retrieves how often and how recently each element was produced by a combination.
+     * Elements which are not the output of any combination are not part of the list.
+     * @param callback The callback to receive the list of {@link ElementUsage}.
+     */
+    public void getUsages(Consumer<List<ElementUsage>> callback) {
+        localDataSource.getUsages(callback);
+    }
+
+    /**
+     * Retrieves how often and how recently each element was produced by a combination.
+     * @return A future completed with the list of {@link ElementUsage}.
+     */
+    public CompletableFuture<List<ElementUsage>> getUsagesAsync() {
+        return localDataSource.getUsagesAsync();
+    }
+
+    /**
+     * Retrieves how often and how recently one element was produced by a combination.
+     * @param elementId The id of the element.
+     * @param callback The callback to receive the {@link ElementUsage}.
+     */
+    public void getUsage(int elementId, Consumer<ElementUsage> callback) {
+        localDataSource.getUsage(elementId, callback);
+    }
+
     /**
      * Inserts a new Combination asynchronously.
      * <p>
@@ -100,6 +144,22 @@ public class CombinationRepository {
         localDataSource.insertCombination(combination, callback);
     }
 
+    /**
+     * Inserts a new Combination, the inputs are ordered alphabetically before insertion.
+     * @param combination The Combination to insert.
+     * @return A future completed with the combination or with a
+     *         {@link de.thm.mixit.data.exception.CombinationException} if it already exists.
+     */
+    public CompletableFuture<Combination> insertCombinationAsync(Combination combination) {
+        // Order alphabetically when necessary
+        if (combination.inputA.compareTo(combination.inputB) > 0) {
+            String temp = combination.inputA;
+            combination.inputA = combination.inputB;
+            combination.inputB = temp;
+        }
+        return localDataSource.insertCombinationAsync(combination);
+    }
+
     /**
      * Deletes all Combination entries from the data source.
      */
@@ -3,14 +3,16 @@ package de.thm.mixit.data.repository;
 import android.content.Context;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
-import de.thm.mixit.data.dao.ElementDao;
 import de.thm.mixit.data.entity.Element;
 import de.thm.mixit.data.model.Result;
 import de.thm.mixit.data.source.AppDatabase;
 import de.thm.mixit.data.source.ElementLocalDataSource;
+import de.thm.mixit.data.source.ElementRegistry;
 import de.thm.mixit.data.source.ElementRemoteDataSource;
+import de.thm.mixit.util.Futures;
 
 
 /**
@@ -18,6 +20,9 @@ import de.thm.mixit.data.source.ElementRemoteDataSource;
  * <p>
  * Acts as a single source of truth for Element data by delegating
  * data operations to a {@link ElementLocalDataSource}.
+ * <p>
+ * The methods ending with {@code Async} return a {@link CompletableFuture} instead of taking a
+ * callback, so independent queries can be combined, run in parallel and cancelled.
  *
  * @author Justin Wolek
  */
@@ -42,8 +47,26 @@ public class ElementRepository {
      */
     public static ElementRepository create(Context context, boolean isArcade) {
         AppDatabase db = AppDatabase.getInstance(context, isArcade);
-        ElementDao dao = db.elementDAO();
-        return new ElementRepository(new ElementLocalDataSource(dao));
+        return new ElementRepository(
+                new ElementLocalDataSource(db, ElementRegistry.getInstance(isArcade)));
+    }
+
+    /**
+     * Builds the client of the remote data source in the background.
+     * Should be called once when the app starts.
+     * @return A future completed once the remote data source is ready.
+     */
+    public static CompletableFuture<Void> initializeRemote() {
+        return ElementRemoteDataSource.initialize();
+    }
+
+    /**
+     * Opens a connection to the remote data source in the background,
+     * so the next generated Element does not have to wait for it.
+     * @return A future completed once the connection is open.
+     */
+    public CompletableFuture<Void> preconnect() {
+        return ElementRemoteDataSource.preconnect();
     }
 
     /**
@@ -57,6 +80,17 @@ public class ElementRepository {
         ElementRemoteDataSource.combine(element1, element2, callback);
     }
 
+    /**
+     * Generates a new Element by combining two existing elements.
+     * @param element1 The first Element to combine.
+     * @param element2 The second Element to combine.
+     * @return A future completed with the newly generated Element, which is not stored yet.
+     */
+    public CompletableFuture<Element> generateNewAsync(String element1, String element2) {
+        return Futures.fromResult(
+                callback -> ElementRemoteDataSource.combine(element1, element2, callback));
+    }
+
     /**
      * Generates a new target word asynchronously.
      * @param lastTargetWords A list of the most recent target words.
@@ -68,6 +102,16 @@ public class ElementRepository {
         ElementRemoteDataSource.generateNewTargetWord(lastTargetWords, callback);
     }
 
+    /**
+     * Generates a new target word.
+     * @param lastTargetWords A list of the most recent target words.
+     * @return A future completed with the generated target words.
+     */
+    public CompletableFuture<String[]> generateNewTargetWordAsync(List<String> lastTargetWords) {
+        return Futures.fromResult(callback ->
+                ElementRemoteDataSource.generateNewTargetWord(lastTargetWords, callback));
+    }
+
     /**
      * Finds an Element by its name asynchronously.
      * @param name The name of the Element to find.
@@ -77,6 +121,15 @@ public class ElementRepository {
         localDataSource.findByName(name, callback);
     }
 
+    /**
+     * Finds an Element by its name.
+     * @param name The name of the Element to find.
+     * @return A future completed with the found Element or {@code null}.
+     */
+    public CompletableFuture<Element> findByNameAsync(String name) {
+        return localDataSource.findByNameAsync(name);
+    }
+
     /**
      * Retrieves all Element objects asynchronously.
      * @param callback The callback to receive the list of all elements.
@@ -85,6 +138,32 @@ public class ElementRepository {
         localDataSource.getAll(callback);
     }
 
+    /**
+     * Retrieves one page of Element objects ordered by id asynchronously.
+     * @param afterId The id of the last element of the previous page or 0 for the first page.
+     * @param limit The maximum number of elements of the page.
+     * @param callback The callback to receive the elements of the page.
+     */
+    public void getPage(int afterId, int limit, Consumer<List<Element>> callback) {
+        localDataSource.getPage(afterId, limit, callback);
+    }
+
+    /**
+     * Counts all Element objects asynchronously.
+     * @param callback The callback to receive the number of elements.
+     */
+    public void count(Consumer<Integer> callback) {
+        localDataSource.count(callback);
+    }
+
+    /**
+     * Counts all Element objects.
+     * @return A future completed with the number of elements.
+     */
+    public CompletableFuture<Integer> countAsync() {
+        return localDataSource.countAsync();
+    }
+
     /**
      * Finds a {@link Element} by its id.
      * @param id The id of the {@link Element}.
@@ -94,6 +173,15 @@ public class ElementRepository {
        localDataSource.findById(id, callback);
     }
 
+    /**
+     * Finds a {@link Element} by its id.
+     * @param id The id of the {@link Element}.
+     * @return A future completed with the found {@link Element} or {@code null}.
+     */
+    public CompletableFuture<Element> findByIdAsync(int id) {
+        return localDataSource.findByIdAsync(id);
+    }
+
     /**
      * Inserts a new Element asynchronously.
      * @param element The Element to insert.
@@ -108,10 +196,21 @@ public class ElementRepository {
     }
 
     /**
-     * Deletes all Elements and recreates the four starter
+     * Inserts a new Element unless an Element with the same name exists already.
+     * @param element The Element to insert.
+     * @return A future completed with the inserted or the existing {@link Element}.
+     */
+    public CompletableFuture<Element> insertElementAsync(Element element) {
+        return localDataSource.insertElementAsync(element);
+    }
+
+    /**
+     * Deletes all Elements and Combinations of the game mode and recreates the four starter
      * elements: water, earth, fire, air.
+     * Queries started after this call see the reset game mode.
+     * @return A future completed once the reset is committed.
      */
-    public void reset() {
-        localDataSource.reset();
+    public CompletableFuture<Void> reset() {
+        return localDataSource.reset();
     }
 }
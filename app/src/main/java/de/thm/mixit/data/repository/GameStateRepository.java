@@ -2,7 +2,10 @@ package de.thm.mixit.data.repository;
 
 import android.content.Context;
 
+import java.util.concurrent.CompletableFuture;
+
 import de.thm.mixit.data.entity.GameState;
+import de.thm.mixit.data.model.ElementChip;
 import de.thm.mixit.data.source.GameStateLocalDataSource;
 
 /**
@@ -40,6 +43,14 @@ public class GameStateRepository {
         return localDataSource.loadGameState();
     }
 
+    /**
+     * Loads the last saved GameState in the background.
+     * @return A future completed with the {@link GameState}.
+     */
+    public CompletableFuture<GameState> loadGameStateAsync() {
+        return localDataSource.loadGameStateAsync();
+    }
+
     /**
      * Saves the given gameState by calling the save Method in the corresponding datasource.
      */
@@ -47,6 +58,39 @@ public class GameStateRepository {
         localDataSource.saveGameState(gameState);
    }
 
+    /**
+     * Records a chip which was added to the playground.
+     * @param chip the added chip.
+     */
+    public void logChipAdded(ElementChip chip) { localDataSource.logChipAdded(chip); }
+
+    /**
+     * Records the new position of a chip.
+     * @param chip the moved chip with its new position.
+     */
+    public void logChipMoved(ElementChip chip) { localDataSource.logChipMoved(chip); }
+
+    /**
+     * Records a chip which was removed from the playground.
+     * @param chip the removed chip.
+     */
+    public void logChipRemoved(ElementChip chip) { localDataSource.logChipRemoved(chip); }
+
+    /**
+     * Records a successful combination on the playground.
+     * @param chip1 the first reactant.
+     * @param chip2 the second reactant.
+     * @param product the chip of the new element.
+     */
+    public void logCombination(ElementChip chip1, ElementChip chip2, ElementChip product) {
+        localDataSource.logCombination(chip1, chip2, product);
+    }
+
+    /**
+     * Records that the playground was cleared.
+     */
+    public void logPlaygroundCleared() { localDataSource.logPlaygroundCleared(); }
+
     /**
      * Whether there is an existing saved GameState.
      * @return boolean
@@ -55,6 +99,9 @@ public class GameStateRepository {
 
     /**
      * Deletes the last saved GameState.
+     * @return A future completed once the GameState is deleted.
      */
-    public void deleteSavedGameState() { localDataSource.deleteSavedGameState(); }
+    public CompletableFuture<Void> deleteSavedGameState() {
+        return localDataSource.deleteSavedGameState();
+    }
 }
@@ -0,0 +1,62 @@
+package de.thm.mixit.data.repository;
+
+import android.content.Context;
+
+import java.util.concurrent.CompletableFuture;
+
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.entity.Recipe;
+import de.thm.mixit.data.source.GlobalDatabase;
+import de.thm.mixit.data.source.RecipeLocalDataSource;
+
+/**
+ * Repository class that provides access to the known results of combinations.
+ * <p>
+ * The recipes are shared by all game modes and survive a reset of a game mode, so the result
+ * of a combination only has to be generated once per installation.
+ * Delegates data operations to a {@link RecipeLocalDataSource}.
+ */
+public class RecipeRepository {
+    private final RecipeLocalDataSource localDataSource;
+
+    /**
+     * Constructs a RecipeRepository with the specified local data source.
+     * Can be used for Unit-Testing. Use {@code RecipeRepository.create()} when trying to do
+     * regular database operations.
+     * @param localDataSource The local data source managing Recipe persistence.
+     */
+    public RecipeRepository(RecipeLocalDataSource localDataSource) {
+        this.localDataSource = localDataSource;
+    }
+
+    /**
+     * Method to create a RecipeRepository instance.
+     * @param context The Android context used to get the database instance.
+     * @return A new instance of {@code RecipeRepository}.
+     */
+    public static RecipeRepository create(Context context) {
+        return new RecipeRepository(
+                new RecipeLocalDataSource(GlobalDatabase.getInstance(context)));
+    }
+
+    /**
+     * Finds the known result of combining two inputs.
+     * @param inputA The first input string.
+     * @param inputB The second input string.
+     * @return A future completed with the found Recipe or {@code null}.
+     */
+    public CompletableFuture<Recipe> findAsync(String inputA, String inputB) {
+        return localDataSource.findAsync(inputA, inputB);
+    }
+
+    /**
+     * Remembers the result of combining two inputs for all game modes.
+     * Does nothing if the result of the inputs is known already.
+     * @param inputA The first input string.
+     * @param inputB The second input string.
+     * @param output The resulting Element.
+     */
+    public void remember(String inputA, String inputB, Element output) {
+        localDataSource.insertIfAbsent(new Recipe(inputA, inputB, output.name, output.emoji));
+    }
+}
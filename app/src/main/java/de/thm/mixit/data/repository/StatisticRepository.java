@@ -2,8 +2,14 @@ package de.thm.mixit.data.repository;
 
 import android.content.Context;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 import de.thm.mixit.data.entity.Statistic;
+import de.thm.mixit.data.source.GlobalDatabase;
 import de.thm.mixit.data.source.StatisticLocalDataSource;
+import de.thm.mixit.util.Futures;
 
 /**
  * Repository class that provides access to Statistics data.
@@ -29,26 +35,106 @@ public class StatisticRepository {
      * @author Jannik Heimann
      */
     public static StatisticRepository create(Context context) {
-        return new StatisticRepository(new StatisticLocalDataSource(context));
+        return new StatisticRepository(
+                new StatisticLocalDataSource(GlobalDatabase.getInstance(context)));
     }
 
     /**
-     * Loads the last saved Statistic by calling the load Method in the corresponding datasource.
-     * @return {@link Statistic}
+     * Loads the saved Statistic asynchronously.
+     * @param callback The callback to receive the {@link Statistic}.
      *
      * @author Jannik Heimann
      */
-    public Statistic loadStatistic() {
-        return localDataSource.loadStatistic();
+    public void loadStatistic(Consumer<Statistic> callback) {
+        localDataSource.loadStatistic(callback);
     }
 
     /**
-     * Saves the given Statistic by calling the save Method in the corresponding datasource.
-     *
-     * @author Jannik Heimann
+     * Loads the last target words asynchronously, oldest first.
+     * @param callback The callback to receive the target words.
+     */
+    public void getLastTargetWords(Consumer<List<String>> callback) {
+        localDataSource.getLastTargetWords(callback);
+    }
+
+    /**
+     * Loads the last target words, oldest first.
+     * @return A future completed with the target words.
+     */
+    public CompletableFuture<List<String>> getLastTargetWordsAsync() {
+        return Futures.fromCallback(localDataSource::getLastTargetWords);
+    }
+
+    /**
+     * Adds the given playtime to the total playtime.
+     * @param hours playtime in hours.
+     */
+    public void addPlaytime(double hours) {
+        localDataSource.addPlaytime(hours);
+    }
+
+    /**
+     * Increases the total number of combinations by one.
+     */
+    public void increaseNumberOfCombinations() {
+        localDataSource.increaseNumberOfCombinations();
+    }
+
+    /**
+     * Saves the name as longest element if it is longer than the current one.
+     * @param name name of a newly created element.
+     */
+    public void updateLongestElement(String name) {
+        localDataSource.updateLongestElement(name);
+    }
+
+    /**
+     * Saves the number of unlocked elements if it is a new record.
+     * @param count number of unlocked elements of one game mode.
+     */
+    public void updateNumberOfUnlockedElements(int count) {
+        localDataSource.updateNumberOfUnlockedElements(count);
+    }
+
+    /**
+     * Adds elements which were discarded at once to the total and updates the record
+     * of the most discarded elements.
+     * @param count number of discarded elements.
+     */
+    public void addDiscardedElements(int count) {
+        localDataSource.addDiscardedElements(count);
+    }
+
+    /**
+     * Saves the number of combinations for one element if it is a new record.
+     * @param count number of combinations creating the same element.
+     */
+    public void updateMostCombinationsForOneElement(int count) {
+        localDataSource.updateMostCombinationsForOneElement(count);
+    }
+
+    /**
+     * Counts a won arcade game and updates the time and turn records.
+     * @param time passed time in seconds.
+     * @param turns taken turns.
+     */
+    public void addArcadeWin(long time, int turns) {
+        localDataSource.addArcadeWin(time, turns);
+    }
+
+    /**
+     * Marks the chocolate cake as found.
+     */
+    public void setFoundChocolateCake() {
+        localDataSource.setFoundChocolateCake();
+    }
+
+    /**
+     * Adds a target word to the last target words unless it already is the last one.
+     * @param word the target word.
      */
-    public void saveStatistic(Statistic statistic) {
-        localDataSource.saveStatistic(statistic);
+    public void addTargetWord(String word) {
+        localDataSource.addTargetWord(word);
     }
 
     /**
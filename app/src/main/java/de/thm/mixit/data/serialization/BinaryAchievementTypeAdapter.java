@@ -0,0 +1,58 @@
+package de.thm.mixit.data.serialization;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+import de.thm.mixit.data.entity.BinaryAchievement;
+
+/**
+ * Hand-written Gson {@link TypeAdapter} for {@link BinaryAchievement}.
+ * <p>
+ * Keeps the property names of the reflective layout which was stored before.
+ */
+public class BinaryAchievementTypeAdapter extends TypeAdapter<BinaryAchievement> {
+
+    @Override
+    public void write(JsonWriter out, BinaryAchievement achievement) throws IOException {
+        out.beginObject();
+        out.name("isUnlocked").value(achievement.isUnlocked());
+        out.name("id").value(achievement.getId());
+        out.name("nameResId").value(achievement.getNameResId());
+        out.name("descriptionResId").value(achievement.getDescriptionResId());
+        out.endObject();
+    }
+
+    @Override
+    public BinaryAchievement read(JsonReader in) throws IOException {
+        boolean isUnlocked = false;
+        int id = 0;
+        int nameResId = 0;
+        int descriptionResId = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "isUnlocked":
+                    isUnlocked = in.nextBoolean();
+                    break;
+                case "id":
+                    id = in.nextInt();
+                    break;
+                case "nameResId":
+                    nameResId = in.nextInt();
+                    break;
+                case "descriptionResId":
+                    descriptionResId = in.nextInt();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return new BinaryAchievement(id, nameResId, descriptionResId, isUnlocked);
+    }
+}
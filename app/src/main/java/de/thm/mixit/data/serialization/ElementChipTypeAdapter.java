@@ -0,0 +1,88 @@
+package de.thm.mixit.data.serialization;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.model.ElementChip;
+
+/**
+ * Hand-written Gson {@link TypeAdapter} for {@link ElementChip}.
+ * <p>
+ * Uses the same property names as the reflective layout which was stored before
+ * ({@code id}, {@code element}, {@code x}, {@code y}, {@code isAnimated}).
+ * The wrapped {@link Element} is delegated to the given element adapter.
+ */
+public class ElementChipTypeAdapter extends TypeAdapter<ElementChip> {
+
+    private final TypeAdapter<Element> elementAdapter;
+
+    /**
+     * Create a new adapter for element chips
+     * @param elementAdapter adapter used for the wrapped element
+     */
+    public ElementChipTypeAdapter(TypeAdapter<Element> elementAdapter) {
+        this.elementAdapter = elementAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, ElementChip chip) throws IOException {
+        out.beginObject();
+        out.name("id").value(chip.getId());
+        out.name("element");
+        if (chip.getElement() == null) {
+            out.nullValue();
+        } else {
+            elementAdapter.write(out, chip.getElement());
+        }
+        out.name("x").value(chip.getX());
+        out.name("y").value(chip.getY());
+        out.name("isAnimated").value(chip.isAnimated());
+        out.endObject();
+    }
+
+    @Override
+    public ElementChip read(JsonReader in) throws IOException {
+        int id = 0;
+        Element element = null;
+        float x = -1;
+        float y = -1;
+        boolean isAnimated = false;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = in.nextInt();
+                    break;
+                case "element":
+                    if (in.peek() == JsonToken.NULL) {
+                        in.nextNull();
+                    } else {
+                        element = elementAdapter.read(in);
+                    }
+                    break;
+                case "x":
+                    x = (float) in.nextDouble();
+                    break;
+                case "y":
+                    y = (float) in.nextDouble();
+                    break;
+                case "isAnimated":
+                    isAnimated = in.nextBoolean();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        ElementChip chip = new ElementChip(id, element, x, y);
+        chip.setAnimated(isAnimated);
+        return chip;
+    }
+}
@@ -0,0 +1,57 @@
+package de.thm.mixit.data.serialization;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+import de.thm.mixit.data.entity.Element;
+
+/**
+ * Hand-written Gson {@link TypeAdapter} for {@link Element}.
+ * <p>
+ * Reads and writes the same JSON layout Gson's reflective adapter produced
+ * ({@code {"id":1,"name":"Wasser","emoji":"💧"}}), so previously saved data stays readable.
+ * Unknown properties are skipped.
+ */
+public class ElementTypeAdapter extends TypeAdapter<Element> {
+
+    @Override
+    public void write(JsonWriter out, Element element) throws IOException {
+        out.beginObject();
+        out.name("id").value(element.id);
+        out.name("name").value(element.name);
+        out.name("emoji").value(element.emoji);
+        out.endObject();
+    }
+
+    @Override
+    public Element read(JsonReader in) throws IOException {
+        int id = 0;
+        String name = null;
+        String emoji = null;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = in.nextInt();
+                    break;
+                case "name":
+                    name = JsonReaders.nextNullableString(in);
+                    break;
+                case "emoji":
+                    emoji = JsonReaders.nextNullableString(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        Element element = new Element(name, emoji);
+        element.id = id;
+        return element;
+    }
+}
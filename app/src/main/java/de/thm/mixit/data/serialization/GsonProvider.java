@@ -0,0 +1,60 @@
+package de.thm.mixit.data.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+
+import de.thm.mixit.data.entity.BinaryAchievement;
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.entity.ProgressAchievement;
+import de.thm.mixit.data.model.ElementChip;
+
+/**
+ * Provides the single {@link Gson} instance used by all local data sources.
+ * <p>
+ * {@link Gson} is thread-safe and caches its type adapters, so building it once and sharing it
+ * avoids recreating the adapters on every load and save. All persisted model classes are
+ * registered with hand-written adapters, so no reflection is needed to (de)serialize them.
+ * Generic collection types are resolved once and exposed as constants.
+ */
+public final class GsonProvider {
+
+    /**
+     * Type of the persisted list of element chips on the playground
+     */
+    public static final Type ELEMENT_CHIP_LIST_TYPE =
+            new TypeToken<ArrayList<ElementChip>>() {}.getType();
+
+    /**
+     * Type of persisted lists of strings, e.g. the last target words
+     */
+    public static final Type STRING_LIST_TYPE = new TypeToken<ArrayList<String>>() {}.getType();
+
+    private static final Gson GSON = create();
+
+    private GsonProvider() {}
+
+    /**
+     * Returns the shared {@link Gson} instance
+     * @return {@link Gson}
+     */
+    public static Gson getGson() {
+        return GSON;
+    }
+
+    private static Gson create() {
+        ElementTypeAdapter elementAdapter = new ElementTypeAdapter();
+        return new GsonBuilder()
+                .registerTypeAdapter(Element.class, elementAdapter.nullSafe())
+                .registerTypeAdapter(ElementChip.class,
+                        new ElementChipTypeAdapter(elementAdapter).nullSafe())
+                .registerTypeAdapter(BinaryAchievement.class,
+                        new BinaryAchievementTypeAdapter().nullSafe())
+                .registerTypeAdapter(ProgressAchievement.class,
+                        new ProgressAchievementTypeAdapter().nullSafe())
+                .create();
+    }
+}
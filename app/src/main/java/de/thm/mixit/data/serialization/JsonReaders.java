@@ -0,0 +1,28 @@
+package de.thm.mixit.data.serialization;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Small helpers shared by the hand-written type adapters.
+ */
+final class JsonReaders {
+
+    private JsonReaders() {}
+
+    /**
+     * Reads the next string value or consumes a JSON {@code null}.
+     * @param in reader positioned in front of a string or null value
+     * @return the string or {@code null}
+     * @throws IOException if the value is malformed
+     */
+    static String nextNullableString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+}
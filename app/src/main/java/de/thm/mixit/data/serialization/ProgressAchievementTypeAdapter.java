@@ -0,0 +1,64 @@
+package de.thm.mixit.data.serialization;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+import de.thm.mixit.data.entity.ProgressAchievement;
+
+/**
+ * Hand-written Gson {@link TypeAdapter} for {@link ProgressAchievement}.
+ * <p>
+ * Keeps the property names of the reflective layout which was stored before.
+ */
+public class ProgressAchievementTypeAdapter extends TypeAdapter<ProgressAchievement> {
+
+    @Override
+    public void write(JsonWriter out, ProgressAchievement achievement) throws IOException {
+        out.beginObject();
+        out.name("currentProgress").value(achievement.getCurrentProgress());
+        out.name("targetProgress").value(achievement.getTargetProgress());
+        out.name("id").value(achievement.getId());
+        out.name("nameResId").value(achievement.getNameResId());
+        out.name("descriptionResId").value(achievement.getDescriptionResId());
+        out.endObject();
+    }
+
+    @Override
+    public ProgressAchievement read(JsonReader in) throws IOException {
+        int currentProgress = 0;
+        int targetProgress = 0;
+        int id = 0;
+        int nameResId = 0;
+        int descriptionResId = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "currentProgress":
+                    currentProgress = in.nextInt();
+                    break;
+                case "targetProgress":
+                    targetProgress = in.nextInt();
+                    break;
+                case "id":
+                    id = in.nextInt();
+                    break;
+                case "nameResId":
+                    nameResId = in.nextInt();
+                    break;
+                case "descriptionResId":
+                    descriptionResId = in.nextInt();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return new ProgressAchievement(id, nameResId, descriptionResId, currentProgress,
+                targetProgress);
+    }
+}
@@ -1,115 +1,73 @@
 package de.thm.mixit.data.source;
 
-import android.content.Context;
-import android.content.SharedPreferences;
-
-import com.google.gson.Gson;
-
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
+import de.thm.mixit.data.dao.AchievementDao;
 import de.thm.mixit.data.entity.Achievement;
-import de.thm.mixit.data.entity.BinaryAchievement;
-import de.thm.mixit.data.entity.ProgressAchievement;
+import de.thm.mixit.data.entity.AchievementRecord;
 
 /**
- * Local data source for accessing the Achievement data using SharedPreferences.
+ * Local data source for accessing and modifying the Achievement data.
  * <p>
- * This class handles the saving and loading of Achievement Data.
- * It uses the ID attribute of an Achievement as key and uses them to safe the corresponding data
- * in a Shared preference.
+ * This class handles all interactions with the {@link GlobalDatabase} related to achievements.
+ * Reads and writes run asynchronously on a background thread.
  *
  * @author Jannik Heimann
  */
 public class AchievementLocalDataSource {
-    private static final String FILEPATH = "de.thm.mixit.ACHIEVEMENTS_FILE";
-    private final SharedPreferences sp;
-    private final Set<String> binaryAchievementIds;
-    private final Set<String> progressAchievementIds;
+    private final AchievementDao achievementDao;
+    private final Executor executor;
 
     /**
-     * Creates a SharedPreference to store a GameState object.
-     * The SharedPreference object uses one of two pre-defined filenames depending on the isArcade
-     * parameter.
-     * @param context context of the Android application, needed to access SharedPreferences.
+     * Constructs a new {@code AchievementLocalDataSource} using the given database.
+     * @param db The database containing the achievements.
      *
      * @author Jannik Heimann
      */
-    public AchievementLocalDataSource(Context context) {
-        this.sp = context.getSharedPreferences(
-                FILEPATH,
-                Context.MODE_PRIVATE);
-        this.binaryAchievementIds = sp.getStringSet("binaryAchievementIds",
-                new HashSet<>());
-        this.progressAchievementIds = sp.getStringSet("progressAchievementIds",
-                new HashSet<>());
+    public AchievementLocalDataSource(GlobalDatabase db) {
+        this.achievementDao = db.achievementDAO();
+        this.executor = db.getExecutor();
     }
 
     /**
-     * Loads the saved Achievements from the SharedPreference object of the class.
-     * @return {@code List<Achievement>}
+     * Asynchronously loads the saved Achievements.
+     * @param callback The callback to receive the achievements.
      *
      * @author Jannik Heimann
      */
-    public List<Achievement> loadAchievements() {
-        Gson gson = new Gson();
-        List<Achievement> achievements = new ArrayList<>();
-        String rawJson;
-
-        // Load from shared preferences based on the subtype
-        for (String name: binaryAchievementIds) {
-            rawJson = sp.getString(name, null);
-            if (rawJson != null) achievements.add(gson.fromJson(rawJson,
-                    BinaryAchievement.class));
-        }
-        for (String name: progressAchievementIds) {
-            rawJson = sp.getString(name, null);
-            if (rawJson != null) achievements.add(gson.fromJson(rawJson,
-                    ProgressAchievement.class));
-        }
-
-        return achievements;
+    public void loadAchievements(Consumer<List<Achievement>> callback) {
+        executor.execute(() -> {
+            List<Achievement> achievements = new ArrayList<>();
+            for (AchievementRecord record : achievementDao.getAll()) {
+                achievements.add(record.toAchievement());
+            }
+            callback.accept(achievements);
+        });
     }
 
     /**
-     * Saves the given Achievement to the corresponding class Shared Preferences object.
+     * Asynchronously saves the given Achievements in one transaction.
      * @param achievements Achievements data to save.
      *
      * @author Jannik Heimann
      */
     public void saveAchievement(List<Achievement> achievements) {
-        Gson gson = new Gson();
-        SharedPreferences.Editor spEditor = sp.edit();
-
-        // Save Achievements in shared preferences and also in name lists
-        for (Achievement achievement: achievements) {
-            if (achievement instanceof BinaryAchievement) {
-                spEditor.putString(Integer.toString(achievement.getId()), gson.toJson(achievement,
-                        BinaryAchievement.class));
-                binaryAchievementIds.add(Integer.toString(achievement.getId()));
-            } else if (achievement instanceof ProgressAchievement) {
-                spEditor.putString(Integer.toString(achievement.getId()), gson.toJson(achievement,
-                        ProgressAchievement.class));
-                progressAchievementIds.add(Integer.toString(achievement.getId()));
-            }
+        List<AchievementRecord> records = new ArrayList<>();
+        for (Achievement achievement : achievements) {
+            records.add(AchievementRecord.from(achievement));
         }
-        spEditor.putStringSet("binaryAchievementIds", binaryAchievementIds);
-        spEditor.putStringSet("progressAchievementIds", progressAchievementIds);
-
-        spEditor.apply();
+        executor.execute(() -> achievementDao.upsertAll(records));
     }
 
     /**
-     * Deletes the saved data within the corresponding Shared Preferences Object.
+     * Asynchronously deletes the saved achievements.
      *
      * @author Jannik Heimann
      */
     public void deleteSavedAchievements() {
-        // Delete from shared preferences
-        SharedPreferences.Editor spEditor = sp.edit();
-        spEditor.clear();
-        spEditor.apply();
+        executor.execute(achievementDao::deleteAll);
     }
 }
@@ -8,6 +8,9 @@ import androidx.room.Room;
 import androidx.room.RoomDatabase;
 import androidx.sqlite.db.SupportSQLiteDatabase;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
 import de.thm.mixit.data.dao.CombinationDao;
 import de.thm.mixit.data.dao.ElementDao;
 import de.thm.mixit.data.entity.Combination;
@@ -25,6 +28,11 @@ import de.thm.mixit.data.entity.Element;
         version = 5, exportSchema = false)
 public abstract class AppDatabase extends RoomDatabase {
 
+    private static volatile AppDatabase endlessInstance;
+    private static volatile AppDatabase arcadeInstance;
+
+    private final Executor executor = Executors.newSingleThreadExecutor();
+
     /**
      * Room databases are fairly expensive. Therefore, use the Singleton pattern to
      * only create one instance of AppDatabase for each game mode.
@@ -33,9 +41,12 @@ public abstract class AppDatabase extends RoomDatabase {
      * @return An AppDatabase object allowing access to the SQLite database
      */
     public static AppDatabase getInstance(Context context, boolean isArcade) {
-        AppDatabase db;
+        AppDatabase db = isArcade ? arcadeInstance : endlessInstance;
+        if (db != null) return db;
         String db_name = isArcade ? "local-arcade-db" : "local-endless-db";
         synchronized (AppDatabase.class) {
+            db = isArcade ? arcadeInstance : endlessInstance;
+            if (db != null) return db;
             db = Room.databaseBuilder(
                             context.getApplicationContext(),
                             AppDatabase.class,
@@ -52,20 +63,49 @@ public abstract class AppDatabase extends RoomDatabase {
                         }
                     })
                     .build();
+            if (isArcade) arcadeInstance = db;
+            else endlessInstance = db;
         }
         return db;
     }
 
+    /**
+     * Returns the background thread all data sources of the game mode run their queries on.
+     * Queries run in the order they were started, so a query which is started after a reset
+     * always sees the reset game mode.
+     * @return the executor of the game mode
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Deletes all {@link Combination}s and {@link Element}s of the game mode and populates the
+     * database with the initial four elements in one transaction, so every other query sees
+     * either the old or the reset game mode.
+     * <p>
+     * Blocks until the transaction is committed, so it must not be called on the main thread.
+     */
+    public void resetProgress() {
+        runInTransaction(() -> {
+            SupportSQLiteDatabase db = getOpenHelper().getWritableDatabase();
+            // Like clearAllTables(), only check the foreign keys once when committing
+            db.execSQL("PRAGMA defer_foreign_keys = TRUE");
+            resetDatabase(db);
+        });
+    }
+
     /**
      * Deletes all {@link Combination}s and {@link Element}s and populate the database with the
-     * initial four elements. Should only be called when the app has been freshly installed
-     * inside {@code onCreate()}.
+     * initial four elements. Must run inside a transaction, either in {@code onCreate()} when
+     * the app has been freshly installed or in {@link #resetProgress()}.
      */
     private static void resetDatabase(SupportSQLiteDatabase db) {
         // DAOs can not be used here because this would recursively call getDatabase.
         // Use raw SQL instead.
-        db.execSQL("DELETE FROM elements");
+        // Delete the combinations first, so deleting the elements does not cascade row by row
         db.execSQL("DELETE FROM combinations");
+        db.execSQL("DELETE FROM elements");
         db.execSQL("INSERT INTO elements (name, emoji) VALUES ('Wasser', '💧');");
         db.execSQL("INSERT INTO elements (name, emoji) VALUES ('Erde', '🌍');");
         db.execSQL("INSERT INTO elements (name, emoji) VALUES ('Feuer', '🔥');");
@@ -4,14 +4,16 @@ import android.database.sqlite.SQLiteConstraintException;
 import android.util.Log;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 import de.thm.mixit.BuildConfig;
 import de.thm.mixit.data.dao.CombinationDao;
 import de.thm.mixit.data.entity.Combination;
 import de.thm.mixit.data.exception.CombinationException;
+import de.thm.mixit.data.model.ElementUsage;
 import de.thm.mixit.data.model.Result;
 
 /**
@@ -19,6 +21,8 @@ import de.thm.mixit.data.model.Result;
  * <p>
  * This class handles all interactions with the local Room database related to
  * combinations, including asynchronous reads and writes using a background thread.
+ * Most operations are available with a callback and as a {@link CompletableFuture}. A query of a
+ * future which is cancelled before the background thread reaches it is not executed.
  *
  * @author Justin Wolek
  */
@@ -26,15 +30,15 @@ public class CombinationLocalDataSource {
 
     private static final String TAG = CombinationLocalDataSource.class.getSimpleName();
     private final CombinationDao combinationDao;
-    private final Executor executor = Executors.newSingleThreadExecutor();
+    private final Executor executor;
 
     /**
-     * Constructs a new {@code CombinationLocalDataSource} with the given {@link CombinationDao}.
-     * @param combinationDao The data access object used to perform database operation
-     *                   on {@link Combination} objects.
+     * Constructs a new {@code CombinationLocalDataSource} using the given database.
+     * @param db The database of the game mode containing the combinations.
      */
-    public CombinationLocalDataSource(CombinationDao combinationDao) {
-        this.combinationDao = combinationDao;
+    public CombinationLocalDataSource(AppDatabase db) {
+        this.combinationDao = db.combinationDAO();
+        this.executor = db.getExecutor();
     }
 
     /**
@@ -71,6 +75,18 @@ public class CombinationLocalDataSource {
         });
     }
 
+    /**
+     * Finds a Combination by its combination on the background thread.
+     *
+     * @param inputA The first input string.
+     * @param inputB The second input string.
+     * @return future completed with the found Combination or {@code null}.
+     */
+    public CompletableFuture<Combination> findByCombinationAsync(String inputA, String inputB) {
+        return CompletableFuture.supplyAsync(
+                () -> combinationDao.findByCombination(inputA, inputB), executor);
+    }
+
     /**
      * Asynchronously finds the amount of the most occurring output id.
      * <p>
@@ -92,6 +108,34 @@ public class CombinationLocalDataSource {
         });
     }
 
+    /**
+     * Asynchronously retrieves the usage of all elements produced by a combination.
+     *
+     * @param callback The callback to receive the list of {@link ElementUsage}.
+     */
+    public void getUsages(Consumer<List<ElementUsage>> callback) {
+        executor.execute(() -> callback.accept(combinationDao.getUsages()));
+    }
+
+    /**
+     * Retrieves the usage of all elements produced by a combination on the background thread.
+     *
+     * @return future completed with the list of {@link ElementUsage}.
+     */
+    public CompletableFuture<List<ElementUsage>> getUsagesAsync() {
+        return CompletableFuture.supplyAsync(combinationDao::getUsages, executor);
+    }
+
+    /**
+     * Asynchronously retrieves the usage of one element.
+     *
+     * @param elementId The id of the element.
+     * @param callback The callback to receive the {@link ElementUsage}.
+     */
+    public void getUsage(int elementId, Consumer<ElementUsage> callback) {
+        executor.execute(() -> callback.accept(combinationDao.getUsage(elementId)));
+    }
+
     /**
      * Asynchronously inserts a Combination into the database.
      *
@@ -110,6 +154,25 @@ public class CombinationLocalDataSource {
         });
     }
 
+    /**
+     * Inserts a Combination into the database on the background thread.
+     *
+     * @param combination The Combination to insert.
+     * @return future completed with the combination or with a {@link CombinationException}
+     *         if the combination already exists.
+     */
+    public CompletableFuture<Combination> insertCombinationAsync(Combination combination) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                combinationDao.insertCombination(combination);
+                return combination;
+            } catch (SQLiteConstraintException e) {
+                throw new CompletionException(
+                        new CombinationException("Combination already exists in database!", e));
+            }
+        }, executor);
+    }
+
     /**
      * Asynchronously deletes all Combination records from the database.
      */
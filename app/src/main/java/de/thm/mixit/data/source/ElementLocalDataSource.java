@@ -1,9 +1,8 @@
 package de.thm.mixit.data.source;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 import de.thm.mixit.data.dao.ElementDao;
@@ -14,20 +13,30 @@ import de.thm.mixit.data.entity.Element;
  * <p>
  * This class handles all interactions with the local Room database related to
  * elements, including asynchronous reads and writes using a background thread.
+ * All loaded elements are resolved through an {@link ElementRegistry}, so the same element
+ * is always returned as the same instance.
+ * <p>
+ * Most operations are available with a callback and as a {@link CompletableFuture}. A query of a
+ * future which is cancelled before the background thread reaches it is not executed.
  *
  * @author Justin Wolek
  */
 public class ElementLocalDataSource {
+    private final AppDatabase db;
     private final ElementDao elementDAO;
-    private final Executor executor = Executors.newSingleThreadExecutor();
+    private final ElementRegistry registry;
+    private final Executor executor;
 
     /**
-     * Constructs a new {@code ElementLocalDataSource} with the given {@link ElementDao}.
-     * @param elementDao The Data Access Object used to perform database operation
-     *                   on {@link Element} objects.
+     * Constructs a new {@code ElementLocalDataSource} using the given database.
+     * @param db The database of the game mode containing the elements.
+     * @param registry The registry of the canonical elements of the game mode.
      */
-    public ElementLocalDataSource(ElementDao elementDao) {
-        this.elementDAO = elementDao;
+    public ElementLocalDataSource(AppDatabase db, ElementRegistry registry) {
+        this.db = db;
+        this.elementDAO = db.elementDAO();
+        this.executor = db.getExecutor();
+        this.registry = registry;
     }
 
     /**
@@ -42,10 +51,42 @@ public class ElementLocalDataSource {
     public void getAll(Consumer<List<Element>> callback) {
         executor.execute(() -> {
             List<Element> elements = elementDAO.getAll();
-            callback.accept(elements);
+            callback.accept(registry.internAll(elements));
+        });
+    }
+
+    /**
+     * Asynchronously retrieves one page of Element records ordered by id.
+     *
+     * @param afterId The id of the last element of the previous page or 0 for the first page.
+     * @param limit The maximum number of elements of the page.
+     * @param callback A callback to retrieve the elements of the page.
+     */
+    public void getPage(int afterId, int limit, Consumer<List<Element>> callback) {
+        executor.execute(() -> {
+            List<Element> elements = elementDAO.getPage(afterId, limit);
+            callback.accept(registry.internAll(elements));
         });
     }
 
+    /**
+     * Asynchronously counts all Element records.
+     *
+     * @param callback A callback to retrieve the number of elements.
+     */
+    public void count(Consumer<Integer> callback) {
+        executor.execute(() -> callback.accept(elementDAO.count()));
+    }
+
+    /**
+     * Counts all Element records on the background thread.
+     *
+     * @return future completed with the number of elements.
+     */
+    public CompletableFuture<Integer> countAsync() {
+        return CompletableFuture.supplyAsync(elementDAO::count, executor);
+    }
+
     /**
      * Asynchronously finds an Element by its ID.
      * <p>
@@ -58,10 +99,21 @@ public class ElementLocalDataSource {
     public void findById(int id, Consumer<Element> callback) {
         executor.execute(() -> {
             Element element = elementDAO.findById(id);
-            callback.accept(element);
+            callback.accept(registry.intern(element));
         });
     }
 
+    /**
+     * Finds an Element by its ID on the background thread.
+     *
+     * @param id The ID of the element to find.
+     * @return future completed with the found Element or {@code null}.
+     */
+    public CompletableFuture<Element> findByIdAsync(int id) {
+        return CompletableFuture.supplyAsync(
+                () -> registry.intern(elementDAO.findById(id)), executor);
+    }
+
     /**
      * Asynchronously finds an Element by its name.
      *
@@ -71,10 +123,21 @@ public class ElementLocalDataSource {
     public void findByName(String name, Consumer<Element> callback) {
         executor.execute(() -> {
             Element element = elementDAO.findByName(name);
-            callback.accept(element);
+            callback.accept(registry.intern(element));
         });
     }
 
+    /**
+     * Finds an Element by its name on the background thread.
+     *
+     * @param name The name of the element to find.
+     * @return future completed with the found Element or {@code null}.
+     */
+    public CompletableFuture<Element> findByNameAsync(String name) {
+        return CompletableFuture.supplyAsync(
+                () -> registry.intern(elementDAO.findByName(name)), executor);
+    }
+
     /**
      * Asynchronously inserts an Element into the database.
      *
@@ -86,23 +149,35 @@ public class ElementLocalDataSource {
 
             Element newElement = elementDAO.findById((int) elementId);
 
-            callback.accept(newElement);
+            callback.accept(registry.intern(newElement));
         });
     }
 
     /**
-     * Asynchronously deletes all Elements and inserts the four starter elements.
+     * Inserts an Element into the database on the background thread, unless an element with
+     * the same name exists already.
+     *
+     * @param element The Element to insert.
+     * @return future completed with the inserted or the existing Element.
      */
-    public void reset() {
-        executor.execute(() -> {
-            elementDAO.deleteAll();
-            List<Element> elements = Arrays.asList(
-                    new Element("Wasser", "\uD83D\uDCA7"),
-                    new Element("Erde", "\uD83C\uDF0D"),
-                    new Element("Feuer", "\uD83D\uDD25"),
-                    new Element("Luft", "\uD83C\uDF2C️")
-            );
-            elementDAO.insertAll(elements);
-        });
+    public CompletableFuture<Element> insertElementAsync(Element element) {
+        return CompletableFuture.supplyAsync(() -> {
+            Element existing = elementDAO.findByName(element.name);
+            if (existing != null) return registry.intern(existing);
+            long elementId = elementDAO.insertElement(element);
+            return registry.intern(elementDAO.findById((int) elementId));
+        }, executor);
+    }
+
+    /**
+     * Deletes all Elements and Combinations and inserts the four starter elements
+     * in one transaction on the background thread, see {@link AppDatabase#resetProgress()}.
+     * @return future completed once the reset is committed.
+     */
+    public CompletableFuture<Void> reset() {
+        return CompletableFuture.runAsync(() -> {
+            db.resetProgress();
+            registry.clear();
+        }, executor);
     }
 }
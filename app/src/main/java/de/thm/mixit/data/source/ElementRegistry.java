@@ -0,0 +1,124 @@
+package de.thm.mixit.data.source;
+
+import androidx.annotation.VisibleForTesting;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.model.ElementChip;
+
+/**
+ * Canonical {@link Element} instances of a game mode, keyed by {@link Element#id}.
+ * <p>
+ * Elements loaded from the database and the saved game state are resolved through the registry,
+ * so every element exists only once in memory, no matter how many chips or lists refer to it.
+ * Two resolved elements are the same element if and only if they are the same instance.
+ * <p>
+ * Elements which are not stored yet (id 0) are returned unchanged. If the database returns an
+ * element with a known id but a different name or emoji, e.g. after a reset, it replaces the
+ * known instance.
+ * <p>
+ * The registry is thread safe.
+ */
+public class ElementRegistry {
+    private static volatile ElementRegistry endlessInstance;
+    private static volatile ElementRegistry arcadeInstance;
+
+    private final Map<Integer, Element> elements = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty registry.
+     * Use {@link #getInstance(boolean)} to get the registry of a game mode.
+     */
+    @VisibleForTesting
+    ElementRegistry() {}
+
+    /**
+     * Returns the registry of the given game mode.
+     * @param isArcade whether the registry belongs to the arcade or endless game mode.
+     * @return {@link ElementRegistry}
+     */
+    public static ElementRegistry getInstance(boolean isArcade) {
+        if (isArcade) {
+            if (arcadeInstance == null) {
+                synchronized (ElementRegistry.class) {
+                    if (arcadeInstance == null) arcadeInstance = new ElementRegistry();
+                }
+            }
+            return arcadeInstance;
+        }
+        if (endlessInstance == null) {
+            synchronized (ElementRegistry.class) {
+                if (endlessInstance == null) endlessInstance = new ElementRegistry();
+            }
+        }
+        return endlessInstance;
+    }
+
+    /**
+     * Resolves an element to its canonical instance
+     * @param element element to resolve, may be {@code null}
+     * @return the canonical instance of the element
+     */
+    public Element intern(Element element) {
+        if (element == null || element.id == 0) return element;
+        Element known = elements.get(element.id);
+        if (known == element || isSame(known, element)) return known;
+        return elements.compute(element.id, (id, current) ->
+                isSame(current, element) ? current : element);
+    }
+
+    /**
+     * Replaces all elements of a list by their canonical instances
+     * @param list elements to resolve, changed in place
+     * @return the given list
+     */
+    public List<Element> internAll(List<Element> list) {
+        if (list == null) return null;
+        ListIterator<Element> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            Element element = iterator.next();
+            Element canonical = intern(element);
+            if (canonical != element) iterator.set(canonical);
+        }
+        return list;
+    }
+
+    /**
+     * Replaces all chips of a list whose element is not the canonical instance by a copy
+     * with the canonical element.
+     * @param chips chips to resolve, changed in place
+     */
+    public void internChips(List<ElementChip> chips) {
+        ListIterator<ElementChip> iterator = chips.listIterator();
+        while (iterator.hasNext()) {
+            ElementChip chip = iterator.next();
+            Element canonical = intern(chip.getElement());
+            if (canonical == chip.getElement()) continue;
+            ElementChip copy = new ElementChip(chip.getId(), canonical, chip.getX(), chip.getY());
+            copy.setAnimated(chip.isAnimated());
+            iterator.set(copy);
+        }
+    }
+
+    /**
+     * Forgets all elements, e.g. after the elements of the game mode were deleted
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    private static boolean isSame(Element known, Element element) {
+        return known != null
+                && Objects.equals(known.name, element.name)
+                && Objects.equals(known.emoji, element.emoji);
+    }
+}
@@ -6,6 +6,10 @@ import com.openai.models.ChatModel;
 import com.openai.models.chat.completions.ChatCompletionCreateParams;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import de.thm.mixit.BuildConfig;
@@ -13,6 +17,7 @@ import de.thm.mixit.data.entity.Element;
 import de.thm.mixit.data.exception.CombinationException;
 import de.thm.mixit.data.exception.InvalidTargetWordException;
 import de.thm.mixit.data.model.Result;
+import de.thm.mixit.util.Futures;
 
 /**
  * Remote data source for accessing and combining elements using the OpenAI API.
@@ -20,13 +25,22 @@ import de.thm.mixit.data.model.Result;
  * This class handles the interaction with the OpenAI API to generate new elements
  * by combining two existing elements. It uses asynchronous calls to ensure that
  * the UI remains responsive while waiting for the API response.
+ * <p>
+ * The client is built lazily on a background thread, see {@link #initialize()}.
  *
  * @author Jonathan Hildebrandt
  */
 public class ElementRemoteDataSource {
-    private final static OpenAIClientAsync client = new OpenAIOkHttpClientAsync.Builder()
-            .apiKey(BuildConfig.API_KEY)
-            .build();
+    // OkHttp keeps idle connections alive for five minutes
+    private final static long PRECONNECT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(4);
+    private final static Executor initExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "OpenAI-Init");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static CompletableFuture<OpenAIClientAsync> client;
+    private static CompletableFuture<Void> preconnection;
+    private static long preconnectedAt;
 
     private final static String SYSTEM_PROMPT =
             "Wir spielen Infinite Craft. Du bist die Engine.\n" +
@@ -75,6 +89,45 @@ public class ElementRemoteDataSource {
             "Beispielausgabe:\n" +
             "Kerze, Kerzen, Wachskerze\n";
 
+    /**
+     * Builds the client in the background if it is not built yet.
+     * Building it loads OkHttp, the JSON mapper and the SDK, which takes a while on the first
+     * use, so it should be started as early as possible.
+     * @return future completed once the client is ready to send requests
+     */
+    public static CompletableFuture<Void> initialize() {
+        return getClient().thenAccept(c -> {});
+    }
+
+    /**
+     * Opens a connection to the API host in the background, so the first combination does not
+     * have to wait for DNS, TCP and TLS. Sends a request listing the models, which costs no
+     * tokens, through the client to keep the connection in its pool.
+     * Does nothing if a connection was opened recently.
+     * @return future completed once the connection is open
+     */
+    public static synchronized CompletableFuture<Void> preconnect() {
+        long now = System.nanoTime();
+        if (preconnection != null && !preconnection.isCompletedExceptionally()
+                && (!preconnection.isDone() || now - preconnectedAt < PRECONNECT_INTERVAL_NANOS)) {
+            return preconnection;
+        }
+        preconnectedAt = now;
+        preconnection = getClient()
+                .thenCompose(c -> c.models().list())
+                .thenAccept(page -> {});
+        return preconnection;
+    }
+
+    private static synchronized CompletableFuture<OpenAIClientAsync> getClient() {
+        if (client == null || client.isCompletedExceptionally()) {
+            client = CompletableFuture.supplyAsync(() -> new OpenAIOkHttpClientAsync.Builder()
+                    .apiKey(BuildConfig.API_KEY)
+                    .build(), initExecutor);
+        }
+        return client;
+    }
+
     private static boolean isValidTargetResponse(String response) {
         return response.matches("^([a-zA-Z 0-9ÜüÄäÖöß-]+, )+([a-zA-Z 0-9ÜüÄäÖöß-]+)$");
     }
@@ -97,13 +150,13 @@ public class ElementRemoteDataSource {
                 .model(ChatModel.CHATGPT_4O_LATEST)
                 .build();
 
-        client.chat().completions().create(createParams).handle(
+        getClient().thenCompose(c -> c.chat().completions().create(createParams)).handle(
                 (chatCompletion, throwable) -> {
                     // When an error has occurred when calling the OpenAI API, the response in
                     // chatCompletion is null and throwable contains an error.
                     if (throwable != null) {
-                        callback.accept(Result.failure(
-                                new CombinationException("Internal error", throwable)));
+                        callback.accept(Result.failure(new CombinationException(
+                                "Internal error", Futures.unwrap(throwable))));
                         return null;
                     } else if (chatCompletion.choices().isEmpty()) {
                         callback.accept(Result.failure(
@@ -141,11 +194,11 @@ public class ElementRemoteDataSource {
                 .model(ChatModel.CHATGPT_4O_LATEST)
                 .build();
 
-        client.chat().completions().create(createParams).handle(
+        getClient().thenCompose(c -> c.chat().completions().create(createParams)).handle(
                 (chatCompletion, throwable) -> {
                     if (throwable != null) {
-                        callback.accept(Result.failure(
-                                new InvalidTargetWordException("Internal error", throwable)));
+                        callback.accept(Result.failure(new InvalidTargetWordException(
+                                "Internal error", Futures.unwrap(throwable))));
                         return null;
                     }
 
@@ -4,21 +4,30 @@ import android.content.Context;
 import android.content.SharedPreferences;
 
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 
-import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import de.thm.mixit.data.entity.GameState;
 import de.thm.mixit.data.model.ElementChip;
+import de.thm.mixit.data.serialization.GsonProvider;
 
 /**
  * Local data source for accessing the GameState data using ShardedPreferences.
  * <p>
  * This class handles the saving and loading of GameState Data.
  * It defines Keys and uses them to safe the corresponding data in a SharedPreference.
- * It also uses the GSON library to transform classes into JSON Format.
+ * It also uses the shared GSON instance of {@link GsonProvider} to transform classes into
+ * JSON Format.
+ * <p>
+ * Changes of the playground between two saves are written to a {@link PlaygroundJournal}
+ * and replayed on load, so only a bounded window of play is lost if the process is killed.
+ * The chips are only written as a new snapshot once the journal grew too large.
+ * <p>
+ * The elements of the loaded chips are resolved through the {@link ElementRegistry} of the
+ * game mode, so chips of the same element share one instance.
  *
  * @author Jannik Heimann
  */
@@ -26,11 +35,17 @@ public class GameStateLocalDataSource {
 
     private static final String FILEPATH_ENDLESS = "de.thm.mixit.GAMESTATE_ENDLESS_FILE";
     private static final String FILEPATH_ARCADE = "de.thm.mixit.GAMESTATE_ARCADE_FILE";
+    // Playtime in seconds, only written by older versions
     private static final String PREF_TIME = "TIME";
+    private static final String PREF_TIME_MILLIS = "TIME_MILLIS";
     private static final String PREF_TURNS = "TURNS";
     private static final String PREF_GOAL_ELEMENT = "GOAL_ELEMENT";
     private static final String PREF_ELEMENTCHIPS = "ELEMENTCHIPS";
+    private static final long JOURNAL_COMPACTION_SIZE = 64 * 1024;
     private final SharedPreferences sp;
+    private final PlaygroundJournal journal;
+    private final ElementRegistry registry;
+    private final Executor executor = Executors.newSingleThreadExecutor();
 
     /**
      * Creates a Shared Preference to store a GameState object.
@@ -46,49 +61,132 @@ public class GameStateLocalDataSource {
         this.sp = context.getSharedPreferences(
                 filepath,
                 Context.MODE_PRIVATE);
+        this.journal = PlaygroundJournal.getInstance(context, isArcade);
+        this.registry = ElementRegistry.getInstance(isArcade);
     }
 
     /**
-     * Loads the last saved GameState from the SharedPreference object of the class.
+     * Loads the last saved GameState from the SharedPreference object of the class
+     * and replays all playground changes journaled since then.
+     * <p>
+     * Runs in the queue of the journal, so a pending compaction or deletion can not replace
+     * the snapshot between reading it and replaying the journal. Blocks until it is loaded.
      * @return {@link GameState}
      *
      * @author Jannik Heimann
      */
     public GameState loadGameState() {
-        Gson gson = new Gson();
-        Type elementListType = new TypeToken<List<ElementChip>>() {}.getType();
+        return journal.runInQueue(this::readGameState);
+    }
+
+    private GameState readGameState() {
+        Gson gson = GsonProvider.getGson();
         long time;
         int turns;
         String rawJson;
         String[] targetElement = null;
         ArrayList<ElementChip> elementChips = new ArrayList<>();
 
-        time = sp.getLong(PREF_TIME, 0L);
+        if (sp.contains(PREF_TIME_MILLIS)) {
+            time = sp.getLong(PREF_TIME_MILLIS, 0L);
+        } else {
+            time = sp.getLong(PREF_TIME, 0L) * 1000;
+        }
         turns = sp.getInt(PREF_TURNS, 0);
 
         rawJson = sp.getString(PREF_GOAL_ELEMENT, null);
         if (rawJson != null) targetElement = gson.fromJson(rawJson, String[].class);
 
         rawJson = sp.getString(PREF_ELEMENTCHIPS, null);
-        if (rawJson != null) elementChips = gson.fromJson(rawJson, elementListType);
+        if (rawJson != null) {
+            elementChips = gson.fromJson(rawJson, GsonProvider.ELEMENT_CHIP_LIST_TYPE);
+        }
+        journal.replay(elementChips);
+        registry.internChips(elementChips);
 
         return new GameState(time, turns, targetElement, elementChips);
     }
 
+    /**
+     * Loads the last saved GameState like {@link #loadGameState()} on a background thread.
+     * <p>
+     * Reading the snapshot and replaying the journal touches the disk, so it should not run on
+     * the main thread. No changes may be journaled until the future is done.
+     * @return future completed with the {@link GameState}
+     */
+    public CompletableFuture<GameState> loadGameStateAsync() {
+        return CompletableFuture.supplyAsync(this::loadGameState, executor);
+    }
+
     /**
      * Saves the given GameState to the corresponding class SharedPreferences object.
+     * <p>
+     * The chips on the playground are already recorded in the journal, so usually only the
+     * scalar values are written and the journal is synced in the background. If the journal
+     * exceeds {@link #JOURNAL_COMPACTION_SIZE} the chips are committed as a new snapshot and
+     * the journal is truncated afterwards, both in the background queue of the journal.
+     * Never waits for the disk, so it can be called on the main thread.
      * @param gameState GameState data to save.
      *
      * @author Jannik Heimann
      */
     public void saveGameState(GameState gameState) {
-        Gson gson = new Gson();
+        Gson gson = GsonProvider.getGson();
         SharedPreferences.Editor spEditor = sp.edit();
-        spEditor.putLong(PREF_TIME, gameState.getTime());
+        spEditor.putLong(PREF_TIME_MILLIS, gameState.getTimeMillis());
+        spEditor.remove(PREF_TIME);
         spEditor.putInt(PREF_TURNS, gameState.getTurns());
         spEditor.putString(PREF_GOAL_ELEMENT, gson.toJson(gameState.getTargetElement()));
-        spEditor.putString(PREF_ELEMENTCHIPS, gson.toJson(gameState.getElementChips()));
-        spEditor.apply();
+        if (journal.size() < JOURNAL_COMPACTION_SIZE && sp.contains(PREF_ELEMENTCHIPS)) {
+            spEditor.apply();
+            journal.requestSync();
+            return;
+        }
+        spEditor.putString(PREF_ELEMENTCHIPS, gson.toJson(gameState.getElementChips(),
+                GsonProvider.ELEMENT_CHIP_LIST_TYPE));
+        // The snapshot must be on disk before the journal is dropped
+        journal.compact(spEditor::commit);
+    }
+
+    /**
+     * Appends a chip which was added to the playground to the journal.
+     * @param chip the added chip.
+     */
+    public void logChipAdded(ElementChip chip) {
+        journal.appendAdd(chip);
+    }
+
+    /**
+     * Appends the new position of a chip to the journal.
+     * @param chip the moved chip with its new position.
+     */
+    public void logChipMoved(ElementChip chip) {
+        journal.appendMove(chip.getId(), chip.getX(), chip.getY());
+    }
+
+    /**
+     * Appends a chip which was removed from the playground to the journal.
+     * @param chip the removed chip.
+     */
+    public void logChipRemoved(ElementChip chip) {
+        journal.appendRemove(chip.getId());
+    }
+
+    /**
+     * Appends a successful combination to the journal.
+     * @param chip1 the first reactant.
+     * @param chip2 the second reactant.
+     * @param product the chip of the new element.
+     */
+    public void logCombination(ElementChip chip1, ElementChip chip2, ElementChip product) {
+        journal.appendCombine(chip1.getId(), chip2.getId(), product);
+    }
+
+    /**
+     * Appends that the playground was cleared to the journal.
+     */
+    public void logPlaygroundCleared() {
+        journal.appendClear();
     }
 
     /**
@@ -98,17 +196,21 @@ public class GameStateLocalDataSource {
      * @author Jannik Heimann
      */
     public boolean hasSavedGameState() {
-        return !sp.getAll().isEmpty();
+        return !sp.getAll().isEmpty() || journal.size() > 0;
     }
 
     /**
-     * Deletes all saved data within the corresponding Shared Preferences Object.
+     * Deletes all saved data within the corresponding Shared Preferences Object
+     * and the journal in the background queue of the journal.
+     * A game state which is loaded after this call is always empty.
+     * @return future completed once the preferences are committed and the journal is empty.
      *
      * @author Jannik Heimann
      */
-    public void deleteSavedGameState() {
-        SharedPreferences.Editor spEditor = sp.edit();
-        spEditor.clear();
-        spEditor.apply();
+    public CompletableFuture<Void> deleteSavedGameState() {
+        return journal.runInQueueAsync(() -> {
+            sp.edit().clear().commit();
+            journal.truncate();
+        });
     }
 }
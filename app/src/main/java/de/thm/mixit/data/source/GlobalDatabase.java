@@ -0,0 +1,102 @@
+package de.thm.mixit.data.source;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.room.Database;
+import androidx.room.Room;
+import androidx.room.RoomDatabase;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import de.thm.mixit.data.dao.AchievementDao;
+import de.thm.mixit.data.dao.RecipeDao;
+import de.thm.mixit.data.dao.StatisticDao;
+import de.thm.mixit.data.entity.AchievementRecord;
+import de.thm.mixit.data.entity.Recipe;
+import de.thm.mixit.data.entity.StatisticRecord;
+import de.thm.mixit.data.entity.TargetWord;
+
+/**
+ * Abstract Room database class for data which is shared by all game modes.
+ * <p>
+ * Contains the statistics, achievements and the recipes known from both game modes.
+ * Unlike {@link AppDatabase} there is only one instance of this database per installation.
+ */
+@Database(entities = {StatisticRecord.class, TargetWord.class, AchievementRecord.class,
+        Recipe.class}, version = 2, exportSchema = false)
+public abstract class GlobalDatabase extends RoomDatabase {
+
+    private static final String DB_NAME = "local-global-db";
+    private static volatile GlobalDatabase instance;
+
+    private final Executor executor = Executors.newSingleThreadExecutor();
+
+    // Adds the recipes without dropping the statistics and achievements
+    private static final Migration MIGRATION_1_2 = new Migration(1, 2) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS recipes (inputA TEXT NOT NULL, "
+                    + "inputB TEXT NOT NULL, outputName TEXT NOT NULL, "
+                    + "outputEmoji TEXT NOT NULL, PRIMARY KEY(inputA, inputB))");
+        }
+    };
+
+    /**
+     * Returns the shared instance of the database and creates it on first use.
+     * <p>
+     * When the database is created, the statistics and achievements which were saved in
+     * SharedPreferences by older versions of the app are migrated once. This also creates the
+     * only statistic row, so it exists before any query runs.
+     * @param context The application context.
+     * @return A GlobalDatabase object allowing access to the SQLite database
+     */
+    public static GlobalDatabase getInstance(Context context) {
+        if (instance == null) {
+            synchronized (GlobalDatabase.class) {
+                if (instance == null) {
+                    Context appContext = context.getApplicationContext();
+                    instance = Room.databaseBuilder(appContext, GlobalDatabase.class, DB_NAME)
+                            // No destructive fallback, the progress of the player only exists
+                            // here once the old SharedPreferences were deleted. A missing
+                            // migration has to fail instead of wiping it.
+                            .addMigrations(MIGRATION_1_2)
+                            .addCallback(new RoomDatabase.Callback() {
+                                // Runs inside the transaction which creates the tables.
+                                @Override
+                                public void onCreate(@NonNull SupportSQLiteDatabase db) {
+                                    super.onCreate(db);
+                                    LegacyPreferencesMigration.migrate(appContext, db);
+                                }
+
+                                // Only delete the old files after the migration was committed.
+                                @Override
+                                public void onOpen(@NonNull SupportSQLiteDatabase db) {
+                                    super.onOpen(db);
+                                    LegacyPreferencesMigration.deleteLegacyPreferences(appContext);
+                                }
+                            })
+                            .build();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the background thread all data sources of the database run their queries on.
+     * @return the executor of the database
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public abstract StatisticDao statisticDAO();
+
+    public abstract AchievementDao achievementDAO();
+
+    public abstract RecipeDao recipeDAO();
+}
@@ -0,0 +1,161 @@
+package de.thm.mixit.data.source;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.thm.mixit.data.entity.Achievement;
+import de.thm.mixit.data.entity.AchievementRecord;
+import de.thm.mixit.data.entity.BinaryAchievement;
+import de.thm.mixit.data.entity.ProgressAchievement;
+import de.thm.mixit.data.entity.StatisticRecord;
+import de.thm.mixit.data.serialization.GsonProvider;
+
+/**
+ * One-time migration of statistics and achievements which older versions of the app
+ * saved in SharedPreferences into the {@link GlobalDatabase}.
+ * <p>
+ * The migration runs inside the transaction creating the database. DAOs can not be used
+ * there, so the rows are inserted directly.
+ */
+final class LegacyPreferencesMigration {
+
+    private static final String TAG = LegacyPreferencesMigration.class.getSimpleName();
+
+    private static final String STATISTIC_FILEPATH = "de.thm.mixit.STATISTIC_FILE";
+    private static final String PREF_TOTAL_PLAYTIME = "TOTAL_PLAYTIME";
+    private static final String PREF_TOTAL_COMBINATIONS = "TOTAL_COMBINATIONS";
+    private static final String PREF_LONGEST_ELEMENT = "LONGEST_ELEMENT";
+    private static final String PREF_NUM_UNLOCKED_ELEMENTS = "NUMBER_OF_UNLOCKED_ELEMENTS";
+    private static final String PREF_NUM_DISCARDED_ELEMENTS = "NUMBER_OF_DISCARDED_ELEMENTS";
+    private static final String PREF_MOST_DISCARDED_ELEMENTS = "MOST_DISCARDED_ELEMENTS";
+    private static final String PREF_MOST_COMBINATIONS_FOR_ELEMENT = "MOST_COMBINATIONS_FOR_ELEMENT";
+    private static final String PREF_ARCADE_GAMES_WON = "ARCADE_GAMES_WON";
+    private static final String PREF_SHORTEST_TIME_TO_BEAT = "SHORTEST_TIME_TO_BEAT";
+    private static final String PREF_FEWEST_TURNS_TO_BEAT = "FEWEST_TURNS_TO_BEAT";
+    private static final String PREF_FOUND_CHOCOLATE_CAKE = "FOUND_CHOCOLATE_CAKE";
+    private static final String PREF_LAST_GOAL_WORDS = "LAST_GOAL_WORDS";
+
+    private static final String ACHIEVEMENTS_FILEPATH = "de.thm.mixit.ACHIEVEMENTS_FILE";
+    private static final String PREF_BINARY_ACHIEVEMENT_IDS = "binaryAchievementIds";
+    private static final String PREF_PROGRESS_ACHIEVEMENT_IDS = "progressAchievementIds";
+
+    private LegacyPreferencesMigration() {}
+
+    /**
+     * Copies the saved statistics and achievements into the freshly created tables.
+     * If nothing was saved, the statistic row is created with its default values.
+     * @param context context of the Android application, needed to access SharedPreferences.
+     * @param db database inside its creating transaction.
+     */
+    static void migrate(Context context, SupportSQLiteDatabase db) {
+        migrateStatistic(getStatisticPreferences(context), db);
+        migrateAchievements(getAchievementPreferences(context), db);
+    }
+
+    /**
+     * Deletes the legacy SharedPreferences files after they were migrated.
+     * @param context context of the Android application, needed to access SharedPreferences.
+     */
+    static void deleteLegacyPreferences(Context context) {
+        clear(getStatisticPreferences(context));
+        clear(getAchievementPreferences(context));
+    }
+
+    private static void migrateStatistic(SharedPreferences sp, SupportSQLiteDatabase db) {
+        StatisticRecord defaults = new StatisticRecord();
+        ContentValues values = new ContentValues();
+        values.put("id", StatisticRecord.ID);
+        values.put("playtime", sp.getFloat(PREF_TOTAL_PLAYTIME, defaults.playtime));
+        values.put("numberOfCombinations",
+                sp.getLong(PREF_TOTAL_COMBINATIONS, defaults.numberOfCombinations));
+        values.put("longestElement", sp.getString(PREF_LONGEST_ELEMENT, defaults.longestElement));
+        values.put("numberOfUnlockedElements",
+                sp.getInt(PREF_NUM_UNLOCKED_ELEMENTS, defaults.numberOfUnlockedElements));
+        values.put("numberOfDiscardedElements",
+                sp.getLong(PREF_NUM_DISCARDED_ELEMENTS, defaults.numberOfDiscardedElements));
+        values.put("mostDiscardedElements",
+                sp.getInt(PREF_MOST_DISCARDED_ELEMENTS, defaults.mostDiscardedElements));
+        values.put("mostCombinationsForOneElement", sp.getInt(
+                PREF_MOST_COMBINATIONS_FOR_ELEMENT, defaults.mostCombinationsForOneElement));
+        values.put("arcadeGamesWon", sp.getInt(PREF_ARCADE_GAMES_WON, defaults.arcadeGamesWon));
+        values.put("shortestArcadeTimeToBeat",
+                sp.getLong(PREF_SHORTEST_TIME_TO_BEAT, defaults.shortestArcadeTimeToBeat));
+        values.put("fewestArcadeTurnsToBeat",
+                sp.getInt(PREF_FEWEST_TURNS_TO_BEAT, defaults.fewestArcadeTurnsToBeat));
+        values.put("foundChocolateCake",
+                sp.getBoolean(PREF_FOUND_CHOCOLATE_CAKE, defaults.foundChocolateCake));
+        db.insert("statistics", SQLiteDatabase.CONFLICT_REPLACE, values);
+
+        String rawJson = sp.getString(PREF_LAST_GOAL_WORDS, null);
+        if (rawJson == null) return;
+        try {
+            List<String> words = GsonProvider.getGson()
+                    .fromJson(rawJson, GsonProvider.STRING_LIST_TYPE);
+            for (String word : words) {
+                ContentValues wordValues = new ContentValues();
+                wordValues.put("word", word);
+                db.insert("target_words", SQLiteDatabase.CONFLICT_REPLACE, wordValues);
+            }
+        } catch (JsonParseException e) {
+            Log.w(TAG, "Could not migrate last target words: " + e);
+        }
+    }
+
+    private static void migrateAchievements(SharedPreferences sp, SupportSQLiteDatabase db) {
+        Gson gson = GsonProvider.getGson();
+        Set<String> binaryIds = sp.getStringSet(PREF_BINARY_ACHIEVEMENT_IDS, new HashSet<>());
+        Set<String> progressIds = sp.getStringSet(PREF_PROGRESS_ACHIEVEMENT_IDS, new HashSet<>());
+
+        for (String id : binaryIds) {
+            insertAchievement(db, gson, sp.getString(id, null), BinaryAchievement.class);
+        }
+        for (String id : progressIds) {
+            insertAchievement(db, gson, sp.getString(id, null), ProgressAchievement.class);
+        }
+    }
+
+    private static void insertAchievement(SupportSQLiteDatabase db, Gson gson,
+                                          String rawJson,
+                                          Class<? extends Achievement> type) {
+        if (rawJson == null) return;
+        try {
+            AchievementRecord record = AchievementRecord.from(gson.fromJson(rawJson, type));
+            ContentValues values = new ContentValues();
+            values.put("id", record.id);
+            values.put("type", record.type);
+            values.put("nameResId", record.nameResId);
+            values.put("descriptionResId", record.descriptionResId);
+            values.put("currentProgress", record.currentProgress);
+            values.put("targetProgress", record.targetProgress);
+            values.put("unlocked", record.unlocked);
+            db.insert("achievements", SQLiteDatabase.CONFLICT_REPLACE, values);
+        } catch (JsonParseException e) {
+            Log.w(TAG, "Could not migrate achievement " + rawJson + ": " + e);
+        }
+    }
+
+    private static SharedPreferences getStatisticPreferences(Context context) {
+        return context.getSharedPreferences(STATISTIC_FILEPATH, Context.MODE_PRIVATE);
+    }
+
+    private static SharedPreferences getAchievementPreferences(Context context) {
+        return context.getSharedPreferences(ACHIEVEMENTS_FILEPATH, Context.MODE_PRIVATE);
+    }
+
+    private static void clear(SharedPreferences sp) {
+        if (sp.getAll().isEmpty()) return;
+        sp.edit().clear().apply();
+    }
+}
@@ -0,0 +1,456 @@
+package de.thm.mixit.data.source;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.VisibleForTesting;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32;
+
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.model.ElementChip;
+
+/**
+ * Append-only write-ahead journal of all playground mutations of one game mode.
+ * <p>
+ * Every mutation is appended as a small binary record on a background thread. The file is
+ * synced to disk at most every {@link #SYNC_INTERVAL_MS} milliseconds, so after a process death
+ * at most this window of play is lost. On the next load the records are replayed on top of the
+ * last saved snapshot of the playground.
+ * <p>
+ * The snapshot the records are replayed on is read and replaced through
+ * {@link #runInQueue(Callable)}, so loading, compacting and deleting the saved playground are
+ * ordered with the appends and can not interleave with each other.
+ * <p>
+ * Each record is stored as {@code [length][payload][crc32]}. A torn record at the end of the file
+ * (e.g. the process was killed during a write) fails the length or checksum check and ends the
+ * replay.
+ */
+public class PlaygroundJournal {
+    private static final String TAG = PlaygroundJournal.class.getSimpleName();
+    private static final String FILENAME_ENDLESS = "playground-endless.journal";
+    private static final String FILENAME_ARCADE = "playground-arcade.journal";
+    private static final long SYNC_INTERVAL_MS = 1000;
+    private static final int MAX_RECORD_LENGTH = 4096;
+
+    private static final byte TYPE_ADD = 1;
+    private static final byte TYPE_MOVE = 2;
+    private static final byte TYPE_REMOVE = 3;
+    private static final byte TYPE_COMBINE = 4;
+    private static final byte TYPE_CLEAR = 5;
+
+    private static volatile PlaygroundJournal endlessInstance;
+    private static volatile PlaygroundJournal arcadeInstance;
+
+    private final File file;
+    private final ScheduledExecutorService executor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, TAG);
+                thread.setDaemon(true);
+                queueThread = thread;
+                return thread;
+            });
+    private volatile Thread queueThread;
+    private FileOutputStream fileStream;
+    private DataOutputStream out;
+    private boolean isDirty = false;
+    private volatile long size;
+
+    /**
+     * Creates a journal writing to the given file.
+     * Use {@link #getInstance(Context, boolean)} to get the journal of a game mode.
+     * @param file the journal file, created on the first append.
+     */
+    @VisibleForTesting
+    PlaygroundJournal(File file) {
+        this.file = file;
+        this.size = file.length();
+        executor.scheduleWithFixedDelay(this::sync, SYNC_INTERVAL_MS, SYNC_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the journal of the given game mode. There is only one journal per file,
+     * so all writers share the same ordered write queue.
+     * @param context context of the Android application.
+     * @param isArcade whether the journal belongs to the arcade or endless game mode.
+     * @return {@link PlaygroundJournal}
+     */
+    public static PlaygroundJournal getInstance(Context context, boolean isArcade) {
+        if (isArcade) {
+            if (arcadeInstance == null) {
+                synchronized (PlaygroundJournal.class) {
+                    if (arcadeInstance == null) {
+                        arcadeInstance = new PlaygroundJournal(
+                                new File(context.getFilesDir(), FILENAME_ARCADE));
+                    }
+                }
+            }
+            return arcadeInstance;
+        }
+        if (endlessInstance == null) {
+            synchronized (PlaygroundJournal.class) {
+                if (endlessInstance == null) {
+                    endlessInstance = new PlaygroundJournal(
+                            new File(context.getFilesDir(), FILENAME_ENDLESS));
+                }
+            }
+        }
+        return endlessInstance;
+    }
+
+    /**
+     * Appends a chip which was added to the playground.
+     * @param chip the added chip.
+     */
+    public void appendAdd(ElementChip chip) {
+        Element element = chip.getElement();
+        int id = chip.getId();
+        float x = chip.getX();
+        float y = chip.getY();
+        append(TYPE_ADD, data -> writeChip(data, id, element, x, y));
+    }
+
+    /**
+     * Appends a new position of a chip.
+     * @param chipId id of the moved chip.
+     * @param x new x coordinate.
+     * @param y new y coordinate.
+     */
+    public void appendMove(int chipId, float x, float y) {
+        append(TYPE_MOVE, data -> {
+            data.writeInt(chipId);
+            data.writeFloat(x);
+            data.writeFloat(y);
+        });
+    }
+
+    /**
+     * Appends a chip which was removed from the playground.
+     * @param chipId id of the removed chip.
+     */
+    public void appendRemove(int chipId) {
+        append(TYPE_REMOVE, data -> data.writeInt(chipId));
+    }
+
+    /**
+     * Appends a successful combination as one record, so it is replayed completely or not at all.
+     * @param chipId1 id of the first reactant.
+     * @param chipId2 id of the second reactant.
+     * @param product the chip of the new element.
+     */
+    public void appendCombine(int chipId1, int chipId2, ElementChip product) {
+        Element element = product.getElement();
+        int id = product.getId();
+        float x = product.getX();
+        float y = product.getY();
+        append(TYPE_COMBINE, data -> {
+            data.writeInt(chipId1);
+            data.writeInt(chipId2);
+            writeChip(data, id, element, x, y);
+        });
+    }
+
+    /**
+     * Appends that all chips were removed from the playground.
+     */
+    public void appendClear() {
+        append(TYPE_CLEAR, data -> { });
+    }
+
+    /**
+     * Applies all complete records of the journal to the given chips.
+     * A torn record at the end of the journal is cut off, so new records are appended
+     * directly after the last valid one.
+     * Must be called before any new record is appended. Runs in order with all pending
+     * appends and truncations and blocks until it is done.
+     * @param chips the chips of the last saved snapshot, modified in place.
+     * @return number of replayed records.
+     */
+    public int replay(List<ElementChip> chips) {
+        return runInQueue(() -> replayRecords(chips));
+    }
+
+    private int replayRecords(List<ElementChip> chips) {
+        if (!file.exists()) return 0;
+        int count = 0;
+        long validLength = 0;
+        try {
+            // Write buffered records, the next append reopens the file after the valid records
+            close();
+        } catch (IOException e) {
+            Log.e(TAG, "Couldn't close playground journal", e);
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length = in.readInt();
+                if (length <= 0 || length > MAX_RECORD_LENGTH) break;
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                crc.reset();
+                crc.update(payload, 0, length);
+                if (in.readInt() != (int) crc.getValue()) break;
+                apply(chips, new DataInputStream(new ByteArrayInputStream(payload)));
+                validLength += length + 8;
+                count++;
+            }
+        } catch (EOFException e) {
+            // Torn record at the end of the journal, everything before it is valid
+        } catch (IOException e) {
+            Log.e(TAG, "Couldn't replay playground journal", e);
+        }
+        if (validLength < file.length()) {
+            Log.w(TAG, "Discarding torn playground journal tail");
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(validLength);
+            } catch (IOException e) {
+                Log.e(TAG, "Couldn't discard torn playground journal tail", e);
+            }
+        }
+        size = validLength;
+        Log.d(TAG, "Replayed " + count + " journal records");
+        return count;
+    }
+
+    /**
+     * Returns the number of bytes written to the journal since the last {@link #truncate()}.
+     * @return size of the journal in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Discards all records which were appended before this call and blocks until they are gone.
+     * Call it after the playground was persisted as a snapshot.
+     */
+    public void truncate() {
+        runInQueue(() -> {
+            truncateRecords();
+            return null;
+        });
+    }
+
+    /**
+     * Persists a new snapshot of the playground and discards all records appended before this
+     * call once the snapshot is on disk. Runs in the background, records appended after this
+     * call are kept.
+     * @param writeSnapshot writes the snapshot and returns whether it is on disk.
+     */
+    public void compact(BooleanSupplier writeSnapshot) {
+        executor.execute(() -> {
+            if (writeSnapshot.getAsBoolean()) truncateRecords();
+        });
+    }
+
+    /**
+     * Writes and syncs all records appended before this call in the background.
+     */
+    public void requestSync() {
+        executor.execute(this::sync);
+    }
+
+    /**
+     * Blocks until all records appended before this call are written and synced to disk.
+     */
+    public void flush() {
+        runInQueue(() -> {
+            sync();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a task in order with all appended records and blocks until it is done.
+     * Tasks started from within another task run directly.
+     * Use it to read or replace the snapshot the records are replayed on.
+     * @param task the task to run.
+     * @param <T> type of the result.
+     * @return the result of the task.
+     */
+    public <T> T runInQueue(Callable<T> task) {
+        try {
+            if (Thread.currentThread() == queueThread) return task.call();
+            return executor.submit(task).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Playground journal task failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the journal", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Playground journal task failed", e);
+        }
+    }
+
+    /**
+     * Runs a task in order with all appended records in the background.
+     * @param task the task to run.
+     * @return future completed once the task is done.
+     */
+    public CompletableFuture<Void> runInQueueAsync(Runnable task) {
+        return CompletableFuture.runAsync(task, executor);
+    }
+
+    /**
+     * Empties the journal file. Runs on the executor thread.
+     */
+    private void truncateRecords() {
+        try {
+            close();
+            new FileOutputStream(file, false).close();
+            size = 0;
+        } catch (IOException e) {
+            Log.e(TAG, "Couldn't truncate playground journal", e);
+        }
+    }
+
+    private void append(byte type, RecordWriter writer) {
+        executor.execute(() -> {
+            try {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                DataOutputStream data = new DataOutputStream(buffer);
+                data.writeByte(type);
+                writer.write(data);
+                byte[] payload = buffer.toByteArray();
+                CRC32 crc = new CRC32();
+                crc.update(payload, 0, payload.length);
+
+                if (out == null) {
+                    fileStream = new FileOutputStream(file, true);
+                    out = new DataOutputStream(new BufferedOutputStream(fileStream));
+                }
+                out.writeInt(payload.length);
+                out.write(payload);
+                out.writeInt((int) crc.getValue());
+                size += payload.length + 8;
+                isDirty = true;
+            } catch (IOException e) {
+                Log.e(TAG, "Couldn't append to playground journal", e);
+            }
+        });
+    }
+
+    /**
+     * Flushes buffered records and forces them to disk. Runs on the executor thread.
+     */
+    private void sync() {
+        if (!isDirty || out == null) return;
+        try {
+            out.flush();
+            fileStream.getFD().sync();
+            isDirty = false;
+        } catch (IOException e) {
+            Log.e(TAG, "Couldn't sync playground journal", e);
+        }
+    }
+
+    private void close() throws IOException {
+        if (out == null) return;
+        out.close();
+        out = null;
+        fileStream = null;
+        isDirty = false;
+    }
+
+    private static void apply(List<ElementChip> chips, DataInputStream in) throws IOException {
+        switch (in.readByte()) {
+            case TYPE_ADD: {
+                // A chip can be dragged back to the playground, don't add it twice
+                ElementChip chip = readChip(in);
+                removeChip(chips, chip.getId());
+                chips.add(chip);
+                break;
+            }
+            case TYPE_MOVE: {
+                int id = in.readInt();
+                float x = in.readFloat();
+                float y = in.readFloat();
+                for (ElementChip chip : chips) {
+                    if (chip.getId() == id) chip.withPosition(x, y);
+                }
+                break;
+            }
+            case TYPE_REMOVE:
+                removeChip(chips, in.readInt());
+                break;
+            case TYPE_COMBINE:
+                removeChip(chips, in.readInt());
+                removeChip(chips, in.readInt());
+                chips.add(readChip(in));
+                break;
+            case TYPE_CLEAR:
+                chips.clear();
+                break;
+            default:
+                throw new IOException("Unknown journal record");
+        }
+    }
+
+    private static void removeChip(List<ElementChip> chips, int id) {
+        Iterator<ElementChip> iterator = chips.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getId() == id) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private static void writeChip(DataOutputStream data, int id, Element element, float x,
+                                  float y) throws IOException {
+        data.writeInt(id);
+        data.writeInt(element.id);
+        writeNullableUTF(data, element.name);
+        writeNullableUTF(data, element.emoji);
+        data.writeFloat(x);
+        data.writeFloat(y);
+    }
+
+    private static ElementChip readChip(DataInputStream in) throws IOException {
+        int id = in.readInt();
+        int elementId = in.readInt();
+        Element element = new Element(readNullableUTF(in), readNullableUTF(in));
+        element.id = elementId;
+        return new ElementChip(id, element, in.readFloat(), in.readFloat());
+    }
+
+    private static void writeNullableUTF(DataOutputStream data, String value)
+            throws IOException {
+        data.writeBoolean(value != null);
+        if (value != null) data.writeUTF(value);
+    }
+
+    private static String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Writes the payload of one record.
+     */
+    private interface RecordWriter {
+        void write(DataOutputStream data) throws IOException;
+    }
+}
@@ -0,0 +1,46 @@
+package de.thm.mixit.data.source;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import de.thm.mixit.data.dao.RecipeDao;
+import de.thm.mixit.data.entity.Recipe;
+
+/**
+ * Local data source for accessing and modifying {@link Recipe} data.
+ * <p>
+ * This class handles all interactions with the {@link GlobalDatabase} related to recipes.
+ * Reads and writes run asynchronously on a background thread.
+ */
+public class RecipeLocalDataSource {
+
+    private final RecipeDao recipeDao;
+    private final Executor executor;
+
+    /**
+     * Constructs a new {@code RecipeLocalDataSource} using the given database.
+     * @param db The database containing the recipes.
+     */
+    public RecipeLocalDataSource(GlobalDatabase db) {
+        this.recipeDao = db.recipeDAO();
+        this.executor = db.getExecutor();
+    }
+
+    /**
+     * Finds the recipe of two inputs on the background thread.
+     * @param inputA The first input string.
+     * @param inputB The second input string.
+     * @return future completed with the found Recipe or {@code null}.
+     */
+    public CompletableFuture<Recipe> findAsync(String inputA, String inputB) {
+        return CompletableFuture.supplyAsync(() -> recipeDao.find(inputA, inputB), executor);
+    }
+
+    /**
+     * Asynchronously inserts a recipe unless the result of its inputs is known already.
+     * @param recipe The recipe to insert.
+     */
+    public void insertIfAbsent(Recipe recipe) {
+        executor.execute(() -> recipeDao.insertIfAbsent(recipe));
+    }
+}
@@ -1,131 +1,156 @@
 package de.thm.mixit.data.source;
 
-import android.content.Context;
-import android.content.SharedPreferences;
-
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
-
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
+import de.thm.mixit.data.dao.StatisticDao;
 import de.thm.mixit.data.entity.Statistic;
+import de.thm.mixit.data.entity.StatisticRecord;
+import de.thm.mixit.data.entity.TargetWord;
 
 /**
- * Local data source for accessing the Statistic data using SharedPreferences.
+ * Local data source for accessing and modifying the Statistic data.
  * <p>
- * This class handles the saving and loading of statistic data.
- * It defines keys and uses them to save the corresponding data in a SharedPreference.
+ * This class handles all interactions with the {@link GlobalDatabase} related to statistics.
+ * Reads and writes run asynchronously on a background thread. Instead of writing back a whole
+ * {@link Statistic}, every change is a partial, atomic update of the affected values.
  *
  * @author Jannik Heimann
  */
 public class StatisticLocalDataSource {
 
-    private static final String FILEPATH = "de.thm.mixit.STATISTIC_FILE";
-    private static final String PREF_TOTAL_PLAYTIME = "TOTAL_PLAYTIME";
-    private static final String PREF_TOTAL_COMBINATIONS = "TOTAL_COMBINATIONS";
-    private static final String PREF_LONGEST_ELEMENT = "LONGEST_ELEMENT";
-    private static final String PREF_NUM_UNLOCKED_ELEMENTS = "NUMBER_OF_UNLOCKED_ELEMENTS";
-    private static final String PREF_NUM_DISCARDED_ELEMENTS = "NUMBER_OF_DISCARDED_ELEMENTS";
-    private static final String PREF_MOST_DISCARDED_ELEMENTS = "MOST_DISCARDED_ELEMENTS";
-    private static final String PREF_MOST_COMBINATIONS_FOR_ELEMENT = "MOST_COMBINATIONS_FOR_ELEMENT";
-    private static final String PREF_ARCADE_GAMES_WON = "ARCADE_GAMES_WON";
-    private static final String PREF_SHORTEST_TIME_TO_BEAT = "SHORTEST_TIME_TO_BEAT";
-    private static final String PREF_FEWEST_TURNS_TO_BEAT = "FEWEST_TURNS_TO_BEAT";
-    private static final String PREF_FOUND_CHOCOLATE_CAKE = "FOUND_CHOCOLATE_CAKE";
-    private static final String PREF_LAST_GOAL_WORDS = "LAST_GOAL_WORDS";
-    private final SharedPreferences sp;
+    private final GlobalDatabase db;
+    private final StatisticDao statisticDao;
+    private final Executor executor;
 
     /**
-     * Creates a SharedPreference object to store a GameState object.
-     * The SharedPreference object uses one of two pre-defined filenames depending on the isArcade
-     * parameter.
-     * @param context Context of the Android application, needed to access shared preferences.
+     * Constructs a new {@code StatisticLocalDataSource} using the given database.
+     * @param db The database containing the statistics.
      *
      * @author Jannik Heimann
      */
-    public StatisticLocalDataSource(Context context) {
-        this.sp = context.getSharedPreferences(
-                FILEPATH,
-                Context.MODE_PRIVATE);
+    public StatisticLocalDataSource(GlobalDatabase db) {
+        this.db = db;
+        this.statisticDao = db.statisticDAO();
+        this.executor = db.getExecutor();
     }
 
     /**
-     * Loads the saved Statistic from the SharedPreference object of the class.
-     * @return {@link Statistic}
+     * Asynchronously loads the saved Statistic.
+     * @param callback The callback to receive the {@link Statistic}.
      *
      * @author Jannik Heimann
      */
-    public Statistic loadStatistic() {
-        Gson gson = new Gson();
-        float playtime = sp.getFloat(PREF_TOTAL_PLAYTIME, 0L);
-        long combinations = sp.getLong(PREF_TOTAL_COMBINATIONS, 0);
-        String longestElement = sp.getString(PREF_LONGEST_ELEMENT, "");
-        int numUnlockedElements = sp.getInt(PREF_NUM_UNLOCKED_ELEMENTS, 0);
-        long numDiscardedElements = sp.getLong(PREF_NUM_DISCARDED_ELEMENTS, 0L);
-        int mostDiscardedElements = sp.getInt(PREF_MOST_DISCARDED_ELEMENTS, 0);
-        int mostElementCombinations = sp.getInt(PREF_MOST_COMBINATIONS_FOR_ELEMENT, 0);
-        int arcadeGamesWon = sp.getInt(PREF_ARCADE_GAMES_WON, 0);
-        long shortestTimeToBeat = sp.getLong(PREF_SHORTEST_TIME_TO_BEAT, Long.MAX_VALUE);
-        int fewestTurnsToBeat = sp.getInt(PREF_FEWEST_TURNS_TO_BEAT, Integer.MAX_VALUE);
-        boolean foundChocolateCake = sp.getBoolean(PREF_FOUND_CHOCOLATE_CAKE, false);
-        String rawJson = sp.getString(PREF_LAST_GOAL_WORDS, null);
-        List<String> lastTargetWords;
-        if (rawJson != null) {
-            lastTargetWords = gson.fromJson(rawJson, new TypeToken<ArrayList<String>>(){}.getType());
-        } else {
-            lastTargetWords = new ArrayList<>();
-        }
-
-        return new Statistic(playtime, combinations, longestElement, numUnlockedElements,
-                numDiscardedElements, mostDiscardedElements, mostElementCombinations,
-                arcadeGamesWon, shortestTimeToBeat, fewestTurnsToBeat, foundChocolateCake,
-                lastTargetWords);
+    public void loadStatistic(Consumer<Statistic> callback) {
+        executor.execute(() -> {
+            Statistic statistic = db.runInTransaction(() -> {
+                StatisticRecord record = statisticDao.get();
+                if (record == null) record = new StatisticRecord();
+                return new Statistic(record.playtime, record.numberOfCombinations,
+                        record.longestElement, record.numberOfUnlockedElements,
+                        record.numberOfDiscardedElements, record.mostDiscardedElements,
+                        record.mostCombinationsForOneElement, record.arcadeGamesWon,
+                        record.shortestArcadeTimeToBeat, record.fewestArcadeTurnsToBeat,
+                        record.foundChocolateCake, statisticDao.getTargetWords());
+            });
+            callback.accept(statistic);
+        });
     }
 
     /**
-     * Saves the given Statistic to the corresponding class SharedPreferences object.
-     * @param statistic Statistic data to save.
-     *
-     * @author Jannik Heimann
+     * Asynchronously loads the last target words, oldest first.
+     * @param callback The callback to receive the target words.
      */
-    public void saveStatistic(Statistic statistic) {
-        Gson gson = new Gson();
-        SharedPreferences.Editor spEditor = sp.edit();
-        spEditor.putFloat(PREF_TOTAL_PLAYTIME, statistic.getPlaytime());
-        spEditor.putLong(PREF_TOTAL_COMBINATIONS, statistic.getNumberOfCombinations());
-        spEditor.putString(PREF_LONGEST_ELEMENT, statistic.getLongestElement());
-        spEditor.putInt(PREF_NUM_UNLOCKED_ELEMENTS, statistic.getNumberOfUnlockedElements());
-        spEditor.putLong(PREF_NUM_DISCARDED_ELEMENTS, statistic.getNumberOfDiscardedElements());
-        spEditor.putInt(PREF_MOST_DISCARDED_ELEMENTS, statistic.getMostDiscardedElements());
-        spEditor.putInt(PREF_MOST_COMBINATIONS_FOR_ELEMENT,
-                statistic.getMostCombinationsForOneElement());
-        spEditor.putInt(PREF_ARCADE_GAMES_WON, statistic.getArcadeGamesWon());
-        spEditor.putLong(PREF_SHORTEST_TIME_TO_BEAT, statistic.getShortestArcadeTimeToBeat());
-        spEditor.putInt(PREF_FEWEST_TURNS_TO_BEAT, statistic.getFewestArcadeTurnsToBeat());
-        spEditor.putBoolean(PREF_FOUND_CHOCOLATE_CAKE, statistic.getFoundChocolateCake());
-        spEditor.putString(PREF_LAST_GOAL_WORDS, gson.toJson(statistic.getLastTargetWords()));
-        spEditor.apply();
+    public void getLastTargetWords(Consumer<List<String>> callback) {
+        executor.execute(() -> callback.accept(statisticDao.getTargetWords()));
     }
 
     /**
-     * Checks whether the corresponding SharedPreferences object has any data saved.
-     * @return boolean
-     *
-     * @author Jannik Heimann
+     * Adds the given playtime to the total playtime.
+     * @param hours playtime in hours.
+     */
+    public void addPlaytime(double hours) {
+        executor.execute(() -> statisticDao.addPlaytime((float) hours));
+    }
+
+    /**
+     * Increases the total number of combinations by one.
+     */
+    public void increaseNumberOfCombinations() {
+        executor.execute(() -> statisticDao.addCombinations(1));
+    }
+
+    /**
+     * Saves the name as longest element if it is longer than the current one.
+     * @param name name of a newly created element.
+     */
+    public void updateLongestElement(String name) {
+        executor.execute(() -> statisticDao.updateLongestElement(name));
+    }
+
+    /**
+     * Saves the number of unlocked elements if it is a new record.
+     * @param count number of unlocked elements of one game mode.
+     */
+    public void updateNumberOfUnlockedElements(int count) {
+        executor.execute(() -> statisticDao.updateNumberOfUnlockedElements(count));
+    }
+
+    /**
+     * Adds elements which were discarded at once.
+     * @param count number of discarded elements.
+     */
+    public void addDiscardedElements(int count) {
+        executor.execute(() -> statisticDao.addDiscardedElements(count));
+    }
+
+    /**
+     * Saves the number of combinations for one element if it is a new record.
+     * @param count number of combinations creating the same element.
+     */
+    public void updateMostCombinationsForOneElement(int count) {
+        executor.execute(() -> statisticDao.updateMostCombinationsForOneElement(count));
+    }
+
+    /**
+     * Counts a won arcade game and updates the time and turn records.
+     * @param time passed time in seconds.
+     * @param turns taken turns.
+     */
+    public void addArcadeWin(long time, int turns) {
+        executor.execute(() -> statisticDao.addArcadeWin(time, turns));
+    }
+
+    /**
+     * Marks the chocolate cake as found.
+     */
+    public void setFoundChocolateCake() {
+        executor.execute(statisticDao::setFoundChocolateCake);
+    }
+
+    /**
+     * Adds a target word unless it already is the last saved one.
+     * Only the newest {@link Statistic#NUMBER_OF_GOAL_WORDS_SAVED} target words are kept.
+     * @param word the target word.
      */
-    public boolean hasSavedStatistic() {
-        return !sp.getAll().isEmpty();
+    public void addTargetWord(String word) {
+        executor.execute(() -> db.runInTransaction(() -> {
+            if (word.equals(statisticDao.getLastTargetWord())) return;
+            statisticDao.insertTargetWord(new TargetWord(word));
+            statisticDao.trimTargetWords(Statistic.NUMBER_OF_GOAL_WORDS_SAVED);
+        }));
     }
 
     /**
-     * Deletes all saved data within the corresponding SharedPreferences object.
+     * Resets all statistics to their default values.
      *
      * @author Jannik Heimann
      */
     public void deleteSavedStatistic() {
-        SharedPreferences.Editor spEditor = sp.edit();
-        spEditor.clear();
-        spEditor.apply();
+        executor.execute(() -> db.runInTransaction(() -> {
+            statisticDao.deleteTargetWords();
+            statisticDao.replace(new StatisticRecord());
+        }));
     }
 }
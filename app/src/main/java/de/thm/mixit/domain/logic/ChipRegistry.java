@@ -0,0 +1,93 @@
+package de.thm.mixit.domain.logic;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.thm.mixit.data.model.ElementChip;
+
+/**
+ * Registry of the element chips shown on the playground and the views representing them.
+ * <p>
+ * Chips and views are looked up by the id of the chip in constant time. Chips are iterated in
+ * the order they were registered. A view is optional, e.g. chips drawn onto a canvas have none.
+ * <p>
+ * The registry is not thread safe and meant to be used on the main thread.
+ *
+ * @param <V> type of the views
+ */
+public class ChipRegistry<V> {
+    private final Map<Integer, ElementChip> chips = new LinkedHashMap<>();
+    private final Collection<ElementChip> readOnlyChips =
+            Collections.unmodifiableCollection(chips.values());
+    private final Map<Integer, V> views = new HashMap<>();
+
+    /**
+     * Registers a chip or replaces the registered chip with the same id
+     * @param chip chip to register
+     */
+    public void put(ElementChip chip) {
+        chips.put(chip.getId(), chip);
+    }
+
+    /**
+     * Sets the view of a registered chip
+     * @param chipId id of the chip
+     * @param view view representing the chip
+     */
+    public void putView(int chipId, V view) {
+        if (!chips.containsKey(chipId)) {
+            throw new IllegalArgumentException("Chip " + chipId + " is not registered");
+        }
+        views.put(chipId, view);
+    }
+
+    /**
+     * @param chipId id of the chip
+     * @return the registered chip or {@code null}
+     */
+    public ElementChip get(int chipId) {
+        return chips.get(chipId);
+    }
+
+    /**
+     * @param chipId id of the chip
+     * @return the view of the chip or {@code null} if the chip has no view
+     */
+    public V getView(int chipId) {
+        return views.get(chipId);
+    }
+
+    /**
+     * @param chipId id of the chip
+     * @return {@code true} if a chip with the id is registered
+     */
+    public boolean contains(int chipId) {
+        return chips.containsKey(chipId);
+    }
+
+    /**
+     * Removes a chip, does nothing if the chip is not registered
+     * @param chipId id of the chip
+     * @return the view of the removed chip or {@code null}
+     */
+    public V remove(int chipId) {
+        chips.remove(chipId);
+        return views.remove(chipId);
+    }
+
+    /**
+     * Returns a read-only live view of all registered chips in registration order.
+     * The registry must not be changed while iterating over the chips.
+     * @return all registered chips
+     */
+    public Collection<ElementChip> getChips() {
+        return readOnlyChips;
+    }
+
+    public int size() {
+        return chips.size();
+    }
+}
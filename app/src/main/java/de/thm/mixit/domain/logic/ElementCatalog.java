@@ -0,0 +1,263 @@
+package de.thm.mixit.domain.logic;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.model.ElementUsage;
+
+/**
+ * In-memory catalog of all discovered elements which were loaded so far.
+ * <p>
+ * The catalog only ever grows: elements are appended in the order they were loaded or
+ * discovered and are never removed or reordered. A reset of the game creates a new catalog.
+ * This allows {@link #getElements()} to return a snapshot in constant time: all snapshots share
+ * one append-only array and only differ in their size.
+ * <p>
+ * All elements are indexed by an {@link ElementSearchIndex} while they are appended.
+ * <p>
+ * Other orders than the discovery order are built once when they are requested and then kept
+ * sorted: single elements and usage changes are inserted with a binary search. Appending a page
+ * drops the built orders, so they are only built again after the last page was loaded.
+ * <p>
+ * The catalog is mutated on the main thread only. {@link #search} and {@link #getOrdered} may be
+ * called from a background thread, all methods are therefore synchronized on the catalog.
+ */
+public class ElementCatalog {
+    // Slots below size are never written again, so snapshots can share the array
+    private Element[] elements = new Element[64];
+    private int size = 0;
+    private final Map<Integer, Element> elementsById = new HashMap<>();
+    private final ElementSearchIndex searchIndex = new ElementSearchIndex();
+
+    private final Map<Integer, String> sortNames = new HashMap<>();
+    private final Map<Integer, ElementUsage> usages = new HashMap<>();
+    private final Map<ElementSortMode, ArrayList<Element>> orderings =
+            new EnumMap<>(ElementSortMode.class);
+    private boolean hasUsages = false;
+
+    /**
+     * Appends an element if it is not already part of the catalog.
+     * @param element element to append
+     * @return {@code true} if the element was appended
+     */
+    public synchronized boolean append(Element element) {
+        if (elementsById.containsKey(element.id)) return false;
+        elementsById.put(element.id, element);
+        add(element);
+        searchIndex.add(element);
+        for (Map.Entry<ElementSortMode, ArrayList<Element>> ordering : orderings.entrySet()) {
+            insertSorted(ordering.getValue(), element, comparator(ordering.getKey()));
+        }
+        return true;
+    }
+
+    /**
+     * Appends a page of elements. Pages are keyed by id and therefore never overlap with
+     * elements which are already part of the catalog.
+     * @param page elements to append
+     */
+    public synchronized void appendPage(List<Element> page) {
+        for (Element element : page) {
+            elementsById.put(element.id, element);
+            add(element);
+            searchIndex.add(element);
+        }
+        if (!page.isEmpty()) orderings.clear();
+    }
+
+    /**
+     * Checks if an element with the given id is part of the catalog.
+     * @param id id of the element
+     * @return {@code true} if the catalog contains the element
+     */
+    public synchronized boolean contains(int id) {
+        return elementsById.containsKey(id);
+    }
+
+    /**
+     * Returns a snapshot of the catalog in insertion order in constant time.
+     * Elements appended later are not part of the snapshot.
+     * @return all elements of the catalog
+     */
+    public synchronized List<Element> getElements() {
+        return new Snapshot(elements, size);
+    }
+
+    /**
+     * Returns a read-only live view of the catalog in the given order.
+     * The view is kept sorted until the next page is appended.
+     * @param mode order of the elements
+     * @return all elements of the catalog
+     */
+    public synchronized List<Element> getOrdered(ElementSortMode mode) {
+        if (mode == ElementSortMode.DISCOVERY) return getElements();
+        ArrayList<Element> ordering = orderings.get(mode);
+        if (ordering == null) {
+            ordering = new ArrayList<>(getElements());
+            ordering.sort(comparator(mode));
+            orderings.put(mode, ordering);
+        }
+        return Collections.unmodifiableList(ordering);
+    }
+
+    /**
+     * Returns a read-only copy of the catalog in the given order, which does not change when
+     * the catalog changes. The discovery order is not copied, see {@link #getElements()}.
+     * @param mode order of the elements
+     * @return all elements of the catalog
+     */
+    public synchronized List<Element> getOrderedSnapshot(ElementSortMode mode) {
+        if (mode == ElementSortMode.DISCOVERY) return getElements();
+        return Collections.unmodifiableList(new ArrayList<>(getOrdered(mode)));
+    }
+
+    /**
+     * Finds all elements whose name contains the query, ignoring case and diacritics.
+     * @param query text to search for
+     * @return matching elements in catalog order
+     */
+    public List<Element> search(String query) {
+        return search(query, ElementSortMode.DISCOVERY);
+    }
+
+    /**
+     * Finds all elements whose name contains the query, ignoring case and diacritics.
+     * Only the matches are sorted, not the whole catalog.
+     * @param query text to search for
+     * @param mode order of the matching elements
+     * @return matching elements
+     */
+    public synchronized List<Element> search(String query, ElementSortMode mode) {
+        List<Element> result = new ArrayList<>();
+        searchIndex.search(query, result);
+        if (mode != ElementSortMode.DISCOVERY) result.sort(comparator(mode));
+        return result;
+    }
+
+    /**
+     * @return {@code true} if the usages were set using {@link #setUsages}
+     */
+    public synchronized boolean hasUsages() {
+        return hasUsages;
+    }
+
+    /**
+     * Replaces the usages of all elements. Elements without usage count as never used.
+     * @param usages usages of the elements
+     */
+    public synchronized void setUsages(List<ElementUsage> usages) {
+        this.usages.clear();
+        for (ElementUsage usage : usages) this.usages.put(usage.elementId, usage);
+        hasUsages = true;
+        orderings.remove(ElementSortMode.MOST_USED);
+        orderings.remove(ElementSortMode.RECENTLY_USED);
+    }
+
+    /**
+     * Updates the usage of one element and moves it to its new position in the built orders.
+     * @param usage new usage of the element
+     */
+    public synchronized void updateUsage(ElementUsage usage) {
+        Element element = elementsById.get(usage.elementId);
+        List<ElementSortMode> moved = new ArrayList<>();
+        if (element != null) {
+            for (ElementSortMode mode : orderings.keySet()) {
+                if (!mode.needsUsage()) continue;
+                // Remove before the key changes, otherwise the element can't be found
+                removeSorted(orderings.get(mode), element, comparator(mode));
+                moved.add(mode);
+            }
+        }
+        usages.put(usage.elementId, usage);
+        for (ElementSortMode mode : moved) {
+            insertSorted(orderings.get(mode), element, comparator(mode));
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void add(Element element) {
+        // Snapshots keep the old array, it is not written anymore
+        if (size == elements.length) elements = Arrays.copyOf(elements, size * 2);
+        elements[size++] = element;
+    }
+
+    private Comparator<Element> comparator(ElementSortMode mode) {
+        switch (mode) {
+            case ALPHABETICAL:
+                return Comparator.comparing(this::sortNameOf)
+                        .thenComparingInt(e -> e.id);
+            case MOST_USED:
+                return Comparator.comparingInt((Element e) -> -usageOf(e).uses)
+                        .thenComparingInt(e -> e.id);
+            case RECENTLY_USED:
+                return Comparator.comparingLong((Element e) -> -usageOf(e).lastUsed)
+                        .thenComparingInt(e -> -e.id);
+            default:
+                return Comparator.comparingInt(e -> e.id);
+        }
+    }
+
+    private String sortNameOf(Element element) {
+        String name = sortNames.get(element.id);
+        if (name == null) {
+            name = element.name == null ? "" : SearchKey.fold(element.name);
+            sortNames.put(element.id, name);
+        }
+        return name;
+    }
+
+    private ElementUsage usageOf(Element element) {
+        ElementUsage usage = usages.get(element.id);
+        return usage == null ? new ElementUsage(element.id, 0, 0) : usage;
+    }
+
+    private static void insertSorted(List<Element> ordering, Element element,
+                                     Comparator<Element> comparator) {
+        int position = Collections.binarySearch(ordering, element, comparator);
+        ordering.add(position < 0 ? -position - 1 : position, element);
+    }
+
+    private static void removeSorted(List<Element> ordering, Element element,
+                                     Comparator<Element> comparator) {
+        int position = Collections.binarySearch(ordering, element, comparator);
+        if (position >= 0) ordering.remove(position);
+    }
+
+    /**
+     * Read-only view of the first elements of the append-only array.
+     */
+    private static final class Snapshot extends AbstractList<Element> implements RandomAccess {
+        private final Element[] elements;
+        private final int size;
+
+        Snapshot(Element[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        public Element get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+            }
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
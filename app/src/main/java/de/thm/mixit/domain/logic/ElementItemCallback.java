@@ -0,0 +1,28 @@
+package de.thm.mixit.domain.logic;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import java.util.Objects;
+
+import de.thm.mixit.data.entity.Element;
+
+/**
+ * Utility class used to calculate the difference of two element lists in the background,
+ * see {@link androidx.recyclerview.widget.ListAdapter}
+ */
+public class ElementItemCallback extends DiffUtil.ItemCallback<Element> {
+
+    @Override
+    public boolean areItemsTheSame(@NonNull Element oldItem, @NonNull Element newItem) {
+        return oldItem.id == newItem.id;
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull Element oldItem, @NonNull Element newItem) {
+        // Loaded elements are interned, so an unchanged element is the same instance
+        if (oldItem == newItem) return true;
+        return Objects.equals(oldItem.name, newItem.name)
+                && Objects.equals(oldItem.emoji, newItem.emoji);
+    }
+}
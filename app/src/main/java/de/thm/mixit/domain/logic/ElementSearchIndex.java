@@ -0,0 +1,165 @@
+package de.thm.mixit.domain.logic;
+
+import java.util.Arrays;
+import java.util.List;
+
+import de.thm.mixit.data.entity.Element;
+
+/**
+ * Substring search index over element names.
+ * <p>
+ * Every element is stored with a search key which is folded once when the element is added,
+ * see {@link SearchKey}. Queries are folded the same way, so "kase" finds "Käse".
+ * For each trigram of a key the index keeps a posting list with the positions of all keys
+ * containing it. A query with at least three characters only verifies the keys of the shortest
+ * posting list among its trigrams instead of scanning all elements. Shorter queries fall back to
+ * a scan over the precomputed keys.
+ * <p>
+ * Elements can only be appended, which keeps every posting list sorted by insertion order.
+ * The index is not thread safe.
+ */
+public class ElementSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private Element[] elements = new Element[64];
+    private String[] keys = new String[64];
+    private int size = 0;
+    private final PostingMap postings = new PostingMap();
+
+    /**
+     * Creates the search key of an element.
+     * @param element element to create the key for
+     * @return folded key
+     */
+    static String keyOf(Element element) {
+        return SearchKey.fold(element.toString());
+    }
+
+    /**
+     * Appends an element to the index.
+     * @param element element to append
+     */
+    public void add(Element element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        String key = keyOf(element);
+        int position = size++;
+        elements[position] = element;
+        keys[position] = key;
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            postings.add(trigram(key, i), position);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds all elements containing the query, in the order they were added.
+     * @param query text to search for, case and diacritic insensitive
+     * @param result list the matching elements are added to
+     */
+    public void search(String query, List<Element> result) {
+        String q = SearchKey.fold(query);
+        if (q.length() < GRAM_LENGTH) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i].contains(q)) result.add(elements[i]);
+            }
+            return;
+        }
+
+        // Use the rarest trigram of the query to get the fewest candidates
+        int[] candidates = null;
+        int candidateCount = Integer.MAX_VALUE;
+        for (int i = 0; i + GRAM_LENGTH <= q.length(); i++) {
+            int slot = postings.find(trigram(q, i));
+            if (slot < 0) return;
+            int count = postings.counts[slot];
+            if (count < candidateCount) {
+                candidateCount = count;
+                candidates = postings.values[slot];
+            }
+        }
+        for (int i = 0; i < candidateCount; i++) {
+            int position = candidates[i];
+            if (keys[position].contains(q)) result.add(elements[position]);
+        }
+    }
+
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32)
+                | ((long) text.charAt(start + 1) << 16)
+                | text.charAt(start + 2);
+    }
+
+    /**
+     * Open addressing hash map from a trigram to a growable list of positions.
+     * Avoids boxing the trigram on every lookup.
+     */
+    private static final class PostingMap {
+        private static final long EMPTY = -1;
+        private long[] grams = newGrams(1024);
+        private int[][] values = new int[1024][];
+        private int[] counts = new int[1024];
+        private int used = 0;
+
+        void add(long gram, int position) {
+            if ((used + 1) * 2 > grams.length) grow();
+            int slot = slotOf(grams, gram);
+            if (grams[slot] == EMPTY) {
+                grams[slot] = gram;
+                values[slot] = new int[4];
+                used++;
+            }
+            int count = counts[slot];
+            int[] list = values[slot];
+            // The same trigram can occur multiple times within one key
+            if (count > 0 && list[count - 1] == position) return;
+            if (count == list.length) {
+                list = Arrays.copyOf(list, count * 2);
+                values[slot] = list;
+            }
+            list[count] = position;
+            counts[slot] = count + 1;
+        }
+
+        int find(long gram) {
+            int slot = slotOf(grams, gram);
+            return grams[slot] == EMPTY ? -1 : slot;
+        }
+
+        private void grow() {
+            long[] oldGrams = grams;
+            int[][] oldValues = values;
+            int[] oldCounts = counts;
+            grams = newGrams(oldGrams.length * 2);
+            values = new int[grams.length][];
+            counts = new int[grams.length];
+            for (int i = 0; i < oldGrams.length; i++) {
+                if (oldGrams[i] == EMPTY) continue;
+                int slot = slotOf(grams, oldGrams[i]);
+                grams[slot] = oldGrams[i];
+                values[slot] = oldValues[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+
+        private static int slotOf(long[] grams, long gram) {
+            int mask = grams.length - 1;
+            int slot = (int) (gram ^ (gram >>> 29) ^ (gram >>> 17)) * 0x9E3779B9 & mask;
+            while (grams[slot] != EMPTY && grams[slot] != gram) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static long[] newGrams(int capacity) {
+            long[] grams = new long[capacity];
+            Arrays.fill(grams, EMPTY);
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package de.thm.mixit.domain.logic;
+
+/**
+ * Orders in which the element list can be shown, see {@link ElementCatalog#getOrdered}.
+ * The order of the constants matches the sort selection of the element list.
+ */
+public enum ElementSortMode {
+    /** Oldest discovery first */
+    DISCOVERY,
+    /** By name, ignoring case and diacritics */
+    ALPHABETICAL,
+    /** Elements produced by the most combinations first */
+    MOST_USED,
+    /** Elements produced by the newest combinations first */
+    RECENTLY_USED;
+
+    /**
+     * @return {@code true} if the order depends on the {@link de.thm.mixit.data.model.ElementUsage}
+     */
+    public boolean needsUsage() {
+        return this == MOST_USED || this == RECENTLY_USED;
+    }
+}
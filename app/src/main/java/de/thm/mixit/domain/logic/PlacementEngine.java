@@ -0,0 +1,100 @@
+package de.thm.mixit.domain.logic;
+
+/**
+ * Finds a free position for a new chip on the playground.
+ * <p>
+ * Candidate positions lie on a lattice around the preferred position, with a spacing of half
+ * the smaller chip edge. The lattice is searched ring by ring outwards and every candidate is
+ * tested against the occupied bounds of a {@link SpatialHashGrid}. The search stops as soon as
+ * no remaining ring can contain a candidate closer than the best free one found so far.
+ * <p>
+ * The result only depends on the occupied bounds and the arguments, so the same board always
+ * leads to the same placement. The number of tested candidates is bounded by the area divided
+ * by the square of the lattice spacing.
+ */
+public class PlacementEngine {
+    private final SpatialHashGrid occupancy;
+
+    /**
+     * Creates a new placement engine
+     * @param occupancy bounds of all chips which are already placed
+     */
+    public PlacementEngine(SpatialHashGrid occupancy) {
+        this.occupancy = occupancy;
+    }
+
+    /**
+     * Finds the free position closest to the preferred point inside of the area.
+     * Bounds which only touch at an edge count as free.
+     * <p>
+     * If there is no free position, the position closest to the preferred point is returned,
+     * which may overlap with other chips.
+     *
+     * @param areaWidth width of the area, starting at 0
+     * @param areaHeight height of the area, starting at 0
+     * @param chipWidth width of the chip to place
+     * @param chipHeight height of the chip to place
+     * @param preferredX x coordinate the center of the chip should be closest to
+     * @param preferredY y coordinate the center of the chip should be closest to
+     * @param out receives the top left corner of the chip, at least of length 2
+     * @return {@code true} if a free position was found
+     */
+    public boolean findFreePosition(float areaWidth, float areaHeight,
+                                    float chipWidth, float chipHeight,
+                                    float preferredX, float preferredY, float[] out) {
+        float maxLeft = Math.max(0, areaWidth - chipWidth);
+        float maxTop = Math.max(0, areaHeight - chipHeight);
+        float originX = clamp(preferredX - chipWidth / 2, maxLeft);
+        float originY = clamp(preferredY - chipHeight / 2, maxTop);
+        out[0] = originX;
+        out[1] = originY;
+
+        float step = Math.max(1, Math.min(chipWidth, chipHeight) / 2);
+        int maxRing = (int) Math.ceil(Math.max(
+                Math.max(originX, maxLeft - originX),
+                Math.max(originY, maxTop - originY)) / step);
+
+        long bestDistance = Long.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Every candidate of this and the following rings is at least this far away
+            if ((long) ring * ring >= bestDistance) break;
+            for (int i = -ring; i <= ring; i++) {
+                // Top and bottom row of the ring, then the left and right column without corners
+                bestDistance = test(i, -ring, originX, originY, step, maxLeft, maxTop,
+                        chipWidth, chipHeight, bestDistance, out);
+                if (ring == 0) break;
+                bestDistance = test(i, ring, originX, originY, step, maxLeft, maxTop,
+                        chipWidth, chipHeight, bestDistance, out);
+                if (i == -ring || i == ring) continue;
+                bestDistance = test(-ring, i, originX, originY, step, maxLeft, maxTop,
+                        chipWidth, chipHeight, bestDistance, out);
+                bestDistance = test(ring, i, originX, originY, step, maxLeft, maxTop,
+                        chipWidth, chipHeight, bestDistance, out);
+            }
+        }
+        return bestDistance != Long.MAX_VALUE;
+    }
+
+    /**
+     * Tests one lattice candidate and stores it in {@code out} if it is free and closer than
+     * the best candidate so far.
+     * @return squared lattice distance of the best candidate
+     */
+    private long test(int i, int j, float originX, float originY, float step,
+                      float maxLeft, float maxTop, float chipWidth, float chipHeight,
+                      long bestDistance, float[] out) {
+        long distance = (long) i * i + (long) j * j;
+        if (distance >= bestDistance) return bestDistance;
+        float x = originX + i * step;
+        float y = originY + j * step;
+        if (x < 0 || y < 0 || x > maxLeft || y > maxTop) return bestDistance;
+        if (occupancy.isOccupied(x, y, x + chipWidth, y + chipHeight)) return bestDistance;
+        out[0] = x;
+        out[1] = y;
+        return distance;
+    }
+
+    private static float clamp(float value, float max) {
+        return Math.min(Math.max(value, 0), max);
+    }
+}
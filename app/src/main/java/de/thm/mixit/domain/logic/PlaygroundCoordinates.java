@@ -0,0 +1,106 @@
+package de.thm.mixit.domain.logic;
+
+/**
+ * Maps the positions of chips between normalized playground coordinates and pixels.
+ * <p>
+ * A chip stores the top left corner of its position relative to the space it can move in:
+ * 0 is the left (top) edge of the playground and 1 the position where the chip touches the
+ * right (bottom) edge. A chip therefore keeps its relative place whenever the size of the
+ * playground changes, e.g. on a change of orientation or in multi-window mode, and never ends
+ * up outside of the playground.
+ * <p>
+ * Chips which were not placed yet have the position {@link #UNPLACED}. Older versions stored
+ * pixels instead, such positions are recognized by {@link #isLegacy(float, float)}.
+ */
+public class PlaygroundCoordinates {
+    /**
+     * Position of a chip which was not placed on the playground yet
+     */
+    public static final float UNPLACED = -1;
+
+    private float width;
+    private float height;
+
+    /**
+     * Set the size of the playground
+     * @param width width of the playground in pixels
+     * @param height height of the playground in pixels
+     * @return {@code true} if the size changed
+     */
+    public boolean setSize(float width, float height) {
+        if (this.width == width && this.height == height) return false;
+        this.width = width;
+        this.height = height;
+        return true;
+    }
+
+    /**
+     * @return {@code true} if the playground was laid out and chips can be mapped to pixels
+     */
+    public boolean hasSize() {
+        return width > 0 && height > 0;
+    }
+
+    /**
+     * @param x normalized x coordinate of the chip
+     * @param chipWidth width of the chip in pixels
+     * @return x coordinate of the chip in pixels
+     */
+    public float toPixelX(float x, float chipWidth) {
+        return toPixel(x, width - chipWidth);
+    }
+
+    /**
+     * @param y normalized y coordinate of the chip
+     * @param chipHeight height of the chip in pixels
+     * @return y coordinate of the chip in pixels
+     */
+    public float toPixelY(float y, float chipHeight) {
+        return toPixel(y, height - chipHeight);
+    }
+
+    /**
+     * @param x x coordinate of the chip in pixels
+     * @param chipWidth width of the chip in pixels
+     * @return normalized x coordinate of the chip, limited to the playground
+     */
+    public float toNormalizedX(float x, float chipWidth) {
+        return toNormalized(x, width - chipWidth);
+    }
+
+    /**
+     * @param y y coordinate of the chip in pixels
+     * @param chipHeight height of the chip in pixels
+     * @return normalized y coordinate of the chip, limited to the playground
+     */
+    public float toNormalizedY(float y, float chipHeight) {
+        return toNormalized(y, height - chipHeight);
+    }
+
+    /**
+     * @param x x coordinate of a chip
+     * @param y y coordinate of a chip
+     * @return {@code true} if the chip was not placed yet
+     */
+    public static boolean isUnplaced(float x, float y) {
+        return x == UNPLACED && y == UNPLACED;
+    }
+
+    /**
+     * @param x x coordinate of a chip
+     * @param y y coordinate of a chip
+     * @return {@code true} if the position was saved in pixels by an older version
+     */
+    public static boolean isLegacy(float x, float y) {
+        return x > 1 || y > 1;
+    }
+
+    private static float toPixel(float value, float range) {
+        return Math.max(0, Math.min(value, 1)) * Math.max(0, range);
+    }
+
+    private static float toNormalized(float value, float range) {
+        if (range <= 0) return 0;
+        return Math.max(0, Math.min(value / range, 1));
+    }
+}
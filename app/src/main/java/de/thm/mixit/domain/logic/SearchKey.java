@@ -0,0 +1,50 @@
+package de.thm.mixit.domain.logic;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Creates folded search keys, so element names can be compared independent of case,
+ * diacritics and the German sharp s.
+ * <p>
+ * The text is lowercased, decomposed (NFD) and all combining marks are dropped. For example
+ * {@code "Käse"} becomes {@code "kase"} and {@code "Straße"} becomes {@code "strasse"}.
+ */
+public final class SearchKey {
+
+    private SearchKey() {}
+
+    /**
+     * Folds the given text into a search key.
+     * @param text text to fold
+     * @return folded key, the same instance if the text is already folded
+     */
+    public static String fold(String text) {
+        if (isFolded(text)) return text;
+
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT),
+                Normalizer.Form.NFD);
+        StringBuilder key = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) continue;
+            if (c == 'ß') {
+                key.append("ss");
+            } else {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Fast path for lowercase ASCII text which does not need to be folded.
+     */
+    private static boolean isFolded(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80 || (c >= 'A' && c <= 'Z')) return false;
+        }
+        return true;
+    }
+}
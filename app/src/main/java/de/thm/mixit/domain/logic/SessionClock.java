@@ -0,0 +1,82 @@
+package de.thm.mixit.domain.logic;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Measures the play time of a game session.
+ * <p>
+ * The clock stores the time at which it was started instead of counting ticks, the elapsed time
+ * is computed on demand from a monotonic time source, e.g.
+ * {@code android.os.SystemClock#elapsedRealtime}. So the measured time neither drifts if the
+ * main thread is busy nor needs any periodic wakeup.
+ * <p>
+ * The clock is not thread safe and meant to be used on the main thread.
+ */
+public class SessionClock {
+    private final LongSupplier elapsedRealtime;
+    // Play time of all previous runs of the clock
+    private long elapsedBeforeStart = 0;
+    private long startedAt = 0;
+    private boolean isRunning = false;
+
+    /**
+     * Creates a paused clock without any passed time
+     * @param elapsedRealtime monotonic time source in milliseconds
+     */
+    public SessionClock(LongSupplier elapsedRealtime) {
+        this.elapsedRealtime = elapsedRealtime;
+    }
+
+    /**
+     * Set the passed time, e.g. after the game state was loaded
+     * @param elapsedMillis passed time in milliseconds
+     */
+    public void reset(long elapsedMillis) {
+        elapsedBeforeStart = elapsedMillis;
+        if (isRunning) startedAt = elapsedRealtime.getAsLong();
+    }
+
+    /**
+     * Starts the clock, does nothing if it is already running
+     */
+    public void start() {
+        if (isRunning) return;
+        startedAt = elapsedRealtime.getAsLong();
+        isRunning = true;
+    }
+
+    /**
+     * Pauses the clock, does nothing if it is already paused
+     */
+    public void pause() {
+        if (!isRunning) return;
+        elapsedBeforeStart += elapsedRealtime.getAsLong() - startedAt;
+        isRunning = false;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * @return passed time in milliseconds
+     */
+    public long getElapsedMillis() {
+        if (!isRunning) return elapsedBeforeStart;
+        return elapsedBeforeStart + elapsedRealtime.getAsLong() - startedAt;
+    }
+
+    /**
+     * @return passed time in full seconds
+     */
+    public long getElapsedSeconds() {
+        return getElapsedMillis() / 1000;
+    }
+
+    /**
+     * @return milliseconds until the passed time reaches the next full second
+     */
+    public long getMillisUntilNextSecond() {
+        return 1000 - getElapsedMillis() % 1000;
+    }
+}
@@ -0,0 +1,398 @@
+package de.thm.mixit.domain.logic;
+
+import java.util.Arrays;
+
+/**
+ * Spatial index of the bounds of all element chips on the playground.
+ * <p>
+ * The plane is divided into square cells of a fixed size. Every chip is registered in all cells
+ * its bounds touch, so a hit test only has to look at the chips of the cells covered by the
+ * tested bounds instead of all chips. Cells are hashed by their coordinates, which means the
+ * grid does not need to know the size of the playground.
+ * <p>
+ * Chips are identified by their id. Moving, adding and removing a chip only touches the cells
+ * of its old and new bounds. After the cells and entries have grown to their working size,
+ * neither updates nor queries allocate memory.
+ * <p>
+ * Every {@link #put} marks the chip as the most recently placed one. Point queries return the
+ * most recently placed chip, which is the chip the player sees on top.
+ * <p>
+ * The grid is not thread safe.
+ */
+public class SpatialHashGrid {
+    /**
+     * Returned by queries if no chip was found
+     */
+    public static final int NO_ID = -1;
+
+    private final float cellSize;
+
+    // Bounds of all chips, stored densely by slot
+    private final IntSlotMap slotsById = new IntSlotMap();
+    private int[] ids = new int[16];
+    private float[] lefts = new float[16];
+    private float[] tops = new float[16];
+    private float[] rights = new float[16];
+    private float[] bottoms = new float[16];
+    private long[] stamps = new long[16];
+    private long nextStamp = 0;
+    private int size = 0;
+
+    // Ids of the chips touching a cell, keyed by the packed cell coordinates
+    private static final long EMPTY_CELL = Long.MIN_VALUE;
+    private long[] cellKeys = newCellKeys(64);
+    private int[][] cellIds = new int[64][];
+    private int[] cellCounts = new int[64];
+    private int cellsUsed = 0;
+
+    /**
+     * Creates a new grid
+     * @param cellSize edge length of a cell, should be around the size of a chip
+     */
+    public SpatialHashGrid(float cellSize) {
+        if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be positive");
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Adds a chip or moves it to new bounds
+     * @param id id of the chip
+     * @param left left edge of the chip
+     * @param top top edge of the chip
+     * @param right right edge of the chip
+     * @param bottom bottom edge of the chip
+     */
+    public void put(int id, float left, float top, float right, float bottom) {
+        int slot = slotsById.get(id);
+        if (slot >= 0) {
+            stamps[slot] = nextStamp++;
+            if (cellOf(lefts[slot]) == cellOf(left) && cellOf(tops[slot]) == cellOf(top)
+                    && cellOf(rights[slot]) == cellOf(right)
+                    && cellOf(bottoms[slot]) == cellOf(bottom)) {
+                // Still in the same cells, only the bounds changed
+                setBounds(slot, left, top, right, bottom);
+                return;
+            }
+            unregister(slot);
+        } else {
+            if (size == ids.length) grow();
+            slot = size++;
+            ids[slot] = id;
+            stamps[slot] = nextStamp++;
+            slotsById.put(id, slot);
+        }
+        setBounds(slot, left, top, right, bottom);
+        register(slot);
+    }
+
+    /**
+     * Removes a chip, does nothing if the chip is unknown
+     * @param id id of the chip
+     */
+    public void remove(int id) {
+        int slot = slotsById.get(id);
+        if (slot < 0) return;
+        unregister(slot);
+        slotsById.remove(id);
+
+        // Move the last entry into the gap
+        int last = --size;
+        if (slot != last) {
+            ids[slot] = ids[last];
+            stamps[slot] = stamps[last];
+            setBounds(slot, lefts[last], tops[last], rights[last], bottoms[last]);
+            slotsById.put(ids[slot], slot);
+        }
+    }
+
+    /**
+     * Removes all chips
+     */
+    public void clear() {
+        slotsById.clear();
+        size = 0;
+        Arrays.fill(cellCounts, 0);
+    }
+
+    /**
+     * @param id id of the chip
+     * @return {@code true} if the grid contains the chip
+     */
+    public boolean contains(int id) {
+        return slotsById.get(id) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the chip which overlaps the most with the given bounds.
+     * Bounds which only touch at an edge do not overlap.
+     * @param left left edge of the tested bounds
+     * @param top top edge of the tested bounds
+     * @param right right edge of the tested bounds
+     * @param bottom bottom edge of the tested bounds
+     * @param excludedId id of a chip to ignore, e.g. the dragged chip itself
+     * @return id of the found chip or {@link #NO_ID}
+     */
+    public int findOverlap(float left, float top, float right, float bottom, int excludedId) {
+        int found = NO_ID;
+        float foundArea = 0;
+        int cx1 = cellOf(right);
+        int cy1 = cellOf(bottom);
+        for (int cx = cellOf(left); cx <= cx1; cx++) {
+            for (int cy = cellOf(top); cy <= cy1; cy++) {
+                int cell = findCell(cx, cy);
+                if (cell < 0) continue;
+                int[] cellList = cellIds[cell];
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    int id = cellList[i];
+                    if (id == excludedId) continue;
+                    int slot = slotsById.get(id);
+                    float width = Math.min(right, rights[slot]) - Math.max(left, lefts[slot]);
+                    float height = Math.min(bottom, bottoms[slot]) - Math.max(top, tops[slot]);
+                    if (width <= 0 || height <= 0) continue;
+                    float area = width * height;
+                    // Prefer the lower id on a tie, independent of the order of the cells
+                    if (area > foundArea || (area == foundArea && id < found)) {
+                        found = id;
+                        foundArea = area;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the most recently placed chip containing the given point.
+     * @param x x coordinate of the point
+     * @param y y coordinate of the point
+     * @return id of the found chip or {@link #NO_ID}
+     */
+    public int findAt(float x, float y) {
+        int cell = findCell(cellOf(x), cellOf(y));
+        if (cell < 0) return NO_ID;
+        int found = NO_ID;
+        long foundStamp = -1;
+        int[] cellList = cellIds[cell];
+        for (int i = 0; i < cellCounts[cell]; i++) {
+            int slot = slotsById.get(cellList[i]);
+            if (x < lefts[slot] || x >= rights[slot] || y < tops[slot] || y >= bottoms[slot]) {
+                continue;
+            }
+            if (stamps[slot] > foundStamp) {
+                found = ids[slot];
+                foundStamp = stamps[slot];
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Checks if the given bounds overlap with any chip
+     * @param left left edge of the tested bounds
+     * @param top top edge of the tested bounds
+     * @param right right edge of the tested bounds
+     * @param bottom bottom edge of the tested bounds
+     * @return {@code true} if the bounds overlap with at least one chip
+     */
+    public boolean isOccupied(float left, float top, float right, float bottom) {
+        return findOverlap(left, top, right, bottom, NO_ID) != NO_ID;
+    }
+
+    private int cellOf(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private void setBounds(int slot, float left, float top, float right, float bottom) {
+        lefts[slot] = left;
+        tops[slot] = top;
+        rights[slot] = right;
+        bottoms[slot] = bottom;
+    }
+
+    private void register(int slot) {
+        int cx1 = cellOf(rights[slot]);
+        int cy1 = cellOf(bottoms[slot]);
+        for (int cx = cellOf(lefts[slot]); cx <= cx1; cx++) {
+            for (int cy = cellOf(tops[slot]); cy <= cy1; cy++) {
+                int cell = findOrAddCell(cx, cy);
+                int count = cellCounts[cell];
+                if (count == cellIds[cell].length) {
+                    cellIds[cell] = Arrays.copyOf(cellIds[cell], count * 2);
+                }
+                cellIds[cell][count] = ids[slot];
+                cellCounts[cell] = count + 1;
+            }
+        }
+    }
+
+    private void unregister(int slot) {
+        int id = ids[slot];
+        int cx1 = cellOf(rights[slot]);
+        int cy1 = cellOf(bottoms[slot]);
+        for (int cx = cellOf(lefts[slot]); cx <= cx1; cx++) {
+            for (int cy = cellOf(tops[slot]); cy <= cy1; cy++) {
+                int cell = findCell(cx, cy);
+                if (cell < 0) continue;
+                int[] cellList = cellIds[cell];
+                int count = cellCounts[cell];
+                for (int i = 0; i < count; i++) {
+                    if (cellList[i] == id) {
+                        cellList[i] = cellList[count - 1];
+                        cellCounts[cell] = count - 1;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        lefts = Arrays.copyOf(lefts, capacity);
+        tops = Arrays.copyOf(tops, capacity);
+        rights = Arrays.copyOf(rights, capacity);
+        bottoms = Arrays.copyOf(bottoms, capacity);
+        stamps = Arrays.copyOf(stamps, capacity);
+    }
+
+    private int findCell(int cx, int cy) {
+        long key = cellKey(cx, cy);
+        int cell = probe(cellKeys, key);
+        return cellKeys[cell] == EMPTY_CELL ? -1 : cell;
+    }
+
+    private int findOrAddCell(int cx, int cy) {
+        if ((cellsUsed + 1) * 2 > cellKeys.length) growCells();
+        long key = cellKey(cx, cy);
+        int cell = probe(cellKeys, key);
+        if (cellKeys[cell] == EMPTY_CELL) {
+            cellKeys[cell] = key;
+            cellIds[cell] = new int[4];
+            cellsUsed++;
+        }
+        return cell;
+    }
+
+    private void growCells() {
+        long[] oldKeys = cellKeys;
+        int[][] oldIds = cellIds;
+        int[] oldCounts = cellCounts;
+        cellKeys = newCellKeys(oldKeys.length * 2);
+        cellIds = new int[cellKeys.length][];
+        cellCounts = new int[cellKeys.length];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY_CELL) continue;
+            int cell = probe(cellKeys, oldKeys[i]);
+            cellKeys[cell] = oldKeys[i];
+            cellIds[cell] = oldIds[i];
+            cellCounts[cell] = oldCounts[i];
+        }
+    }
+
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    private static int probe(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int slot = mix((int) (key ^ (key >>> 32))) & mask;
+        while (keys[slot] != EMPTY_CELL && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static long[] newCellKeys(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, EMPTY_CELL);
+        return keys;
+    }
+
+    /**
+     * Open addressing hash map from a chip id to its slot.
+     * Avoids boxing the id on every lookup.
+     */
+    private static final class IntSlotMap {
+        private static final int EMPTY = Integer.MIN_VALUE;
+        private int[] keys = newKeys(32);
+        private int[] values = new int[32];
+        private int used = 0;
+
+        int get(int key) {
+            int slot = probe(keys, key);
+            return keys[slot] == EMPTY ? -1 : values[slot];
+        }
+
+        void put(int key, int value) {
+            if ((used + 1) * 2 > keys.length) grow();
+            int slot = probe(keys, key);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                used++;
+            }
+            values[slot] = value;
+        }
+
+        void remove(int key) {
+            int mask = keys.length - 1;
+            int slot = probe(keys, key);
+            if (keys[slot] == EMPTY) return;
+            keys[slot] = EMPTY;
+            used--;
+            // Shift back following entries, so no probe sequence is interrupted by the gap
+            int next = (slot + 1) & mask;
+            while (keys[next] != EMPTY) {
+                int key2 = keys[next];
+                int value2 = values[next];
+                keys[next] = EMPTY;
+                int target = probe(keys, key2);
+                keys[target] = key2;
+                values[target] = value2;
+                next = (next + 1) & mask;
+            }
+        }
+
+        void clear() {
+            Arrays.fill(keys, EMPTY);
+            used = 0;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new int[keys.length];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == EMPTY) continue;
+                int slot = probe(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+
+        private static int probe(int[] keys, int key) {
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static int[] newKeys(int capacity) {
+            int[] keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+    }
+}
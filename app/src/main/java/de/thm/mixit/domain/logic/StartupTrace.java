@@ -0,0 +1,133 @@
+package de.thm.mixit.domain.logic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Records when the loads of a screen start and end to find the critical path of its startup.
+ * <p>
+ * Every load is a named span which may depend on other spans. The critical path starts at the
+ * span which ended last and follows the dependency which ended last back to a span without
+ * dependencies. Shortening any other span does not make the startup faster.
+ * <p>
+ * Spans may be started and ended on any thread.
+ */
+public class StartupTrace {
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final Map<String, Span> spans = new LinkedHashMap<>();
+
+    /**
+     * Creates a trace starting now, measured with {@link System#nanoTime()}
+     */
+    public StartupTrace() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a trace starting now
+     * @param clock monotonic time source in nanoseconds
+     */
+    public StartupTrace(LongSupplier clock) {
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+    }
+
+    /**
+     * Starts a span, does nothing if the span was already started
+     * @param name name of the span
+     * @param dependencies names of the spans which had to end before this span could start
+     */
+    public synchronized void begin(String name, String... dependencies) {
+        if (spans.containsKey(name)) return;
+        spans.put(name, new Span(clock.getAsLong() - startNanos, dependencies));
+    }
+
+    /**
+     * Ends a span, does nothing if the span was not started or already ended
+     * @param name name of the span
+     */
+    public synchronized void end(String name) {
+        Span span = spans.get(name);
+        if (span == null || span.endNanos >= 0) return;
+        span.endNanos = clock.getAsLong() - startNanos;
+    }
+
+    /**
+     * Starts a span and ends it as soon as the started load is done, even if it failed
+     * @param name name of the span
+     * @param load starts the load
+     * @param dependencies names of the spans which had to end before the load could start
+     * @param <T> type of the loaded data
+     * @return the future of the load
+     */
+    public <T> CompletableFuture<T> trace(String name, Supplier<CompletableFuture<T>> load,
+                                          String... dependencies) {
+        begin(name, dependencies);
+        CompletableFuture<T> future = load.get();
+        future.whenComplete((value, error) -> end(name));
+        return future;
+    }
+
+    /**
+     * @return names of the spans on the critical path in the order they ran
+     */
+    public synchronized List<String> getCriticalPath() {
+        List<String> path = new ArrayList<>();
+        String current = latestEnded(spans.keySet().toArray(new String[0]));
+        while (current != null && !path.contains(current)) {
+            path.add(current);
+            current = latestEnded(spans.get(current).dependencies);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * @return all spans with their start and end relative to the start of the trace and
+     *         the critical path, one line per span
+     */
+    public synchronized String format() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Span> entry : spans.entrySet()) {
+            Span span = entry.getValue();
+            builder.append(String.format(Locale.ROOT, "%-12s %6.1f ms .. ",
+                    entry.getKey(), span.startNanos / 1e6));
+            if (span.endNanos < 0) builder.append("running\n");
+            else builder.append(String.format(Locale.ROOT, "%6.1f ms\n", span.endNanos / 1e6));
+        }
+        builder.append("critical path: ").append(String.join(" -> ", getCriticalPath()));
+        return builder.toString();
+    }
+
+    private String latestEnded(String[] names) {
+        String latest = null;
+        long latestEnd = -1;
+        for (String name : names) {
+            Span span = spans.get(name);
+            if (span != null && span.endNanos > latestEnd) {
+                latest = name;
+                latestEnd = span.endNanos;
+            }
+        }
+        return latest;
+    }
+
+    private static class Span {
+        final long startNanos;
+        final String[] dependencies;
+        long endNanos = -1;
+
+        Span(long startNanos, String[] dependencies) {
+            this.startNanos = startNanos;
+            this.dependencies = dependencies;
+        }
+    }
+}
@@ -2,13 +2,20 @@ package de.thm.mixit.domain.usecase;
 
 import android.util.Log;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 import de.thm.mixit.data.entity.Combination;
 import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.exception.CombinationException;
 import de.thm.mixit.data.model.Result;
 import de.thm.mixit.data.repository.CombinationRepository;
 import de.thm.mixit.data.repository.ElementRepository;
+import de.thm.mixit.data.repository.RecipeRepository;
+import de.thm.mixit.util.Futures;
 
 /**
  * Use case for handling element combinations in the Infinite Craft game.
@@ -16,15 +23,23 @@ import de.thm.mixit.data.repository.ElementRepository;
  * This class provides methods to retrieve or create new elements based on combinations
  * of two input elements. It interacts with the repositories to manage element data
  * and combinations.
+ * <p>
+ * Before a new element is generated, the recipes known from all game modes are checked, so
+ * the result of a combination is generated only once, even after a game mode was reset.
  *
  * @author Jonathan Hildebrandt
  */
 public class CombinationUseCase {
 
     private static final String TAG = CombinationUseCase.class.getSimpleName();
+    /**
+     * Maximum time to wait for the generation of a new element
+     */
+    private static final long GENERATE_TIMEOUT_SECONDS = 30;
 
     private final CombinationRepository combinationRepository;
     private final ElementRepository elementRepository;
+    private final RecipeRepository recipeRepository;
 
     /**
      * Constructor for CombinationUseCase.
@@ -32,11 +47,23 @@ public class CombinationUseCase {
      * @param combinationRepository The combination repository
      *                              that is used for managing combinations.
      * @param elementRepository The element repository that is used for managing elements
+     * @param recipeRepository The recipe repository that is used for managing the recipes
+     *                         shared by all game modes
      */
     public CombinationUseCase(CombinationRepository combinationRepository,
-                              ElementRepository elementRepository) {
+                              ElementRepository elementRepository,
+                              RecipeRepository recipeRepository) {
         this.combinationRepository = combinationRepository;
         this.elementRepository = elementRepository;
+        this.recipeRepository = recipeRepository;
+    }
+
+    /**
+     * Prepares the generation of new elements by opening a connection in the background.
+     * Call it as soon as combinations are possible.
+     */
+    public void preconnect() {
+        elementRepository.preconnect();
     }
 
     /**
@@ -46,99 +73,151 @@ public class CombinationUseCase {
      * @param element1 The first element to combine.
      * @param element2 The second element to combine.
      * @param callback A callback to receive the resulting ElementEntity.
-     * @throws RuntimeException If an error occurs during the operation.
      */
     public void getElement(Element element1, Element element2,
-                           Consumer<Result<Element>> callback) throws RuntimeException {
+                           Consumer<Result<Element>> callback) {
+        getElementAsync(element1, element2).whenComplete(Futures.toResult(callback));
+    }
+
+    /**
+     * Combines two elements to create a new element.
+     * If the combination already exists, it retrieves the existing element.
+     * If another game mode knows the recipe, it stores its output and the combination.
+     * Otherwise, it generates a new element and stores the element, the combination and
+     * the recipe.
+     * <p>
+     * If the returned future is cancelled, the pending lookups are cancelled and nothing new is
+     * stored in the game mode. A generated element is still remembered as a recipe, because
+     * the request to generate it can not be cancelled.
+     * @param element1 The first element to combine.
+     * @param element2 The second element to combine.
+     * @return A future completed with the resulting element or with a
+     *         {@link CombinationException} if the combination failed.
+     */
+    public CompletableFuture<Element> getElementAsync(Element element1, Element element2) {
+        String inputA = element1.toString();
+        String inputB = element2.toString();
+        CompletableFuture<Element> result = new CompletableFuture<>();
+
         // Check if there is already a combination for the two elements
-        combinationRepository.findByCombination(element1.toString(), element2.toString(),
-                combination -> {
+        cancelledWith(result, combinationRepository.findByCombinationAsync(inputA, inputB))
+                .thenCompose(combination -> {
                     // If a combination exists, retrieve the output element
                     if (combination != null) {
                         Log.i(TAG, "Combination found for element: "
                                 + combination.inputA + " + " + combination.inputB
                                 + " with outputId: " + combination.outputId);
+                        // Also shares combinations which were found before recipes existed
+                        return cancelledWith(result, findOutput(combination))
+                                .thenApply(element -> {
+                                    recipeRepository.remember(inputA, inputB, element);
+                                    return element;
+                                });
+                    }
+                    return findRecipeOrGenerate(inputA, inputB, result);
+                })
+                .whenComplete((element, error) -> {
+                    if (error != null && Futures.unwrap(error) instanceof TimeoutException) {
+                        Log.e(TAG, "Generating the element timed out: " + inputA + " + " + inputB);
+                        error = new CombinationException("Generating the element timed out",
+                                Futures.unwrap(error));
+                    } else if (error != null) {
+                        Log.e(TAG, "Failed to combine elements: " + Futures.unwrap(error));
+                    }
+                    Futures.completing(result).accept(element, error);
+                });
+        return result;
+    }
 
-                        elementRepository.findById(combination.outputId, element -> {
-                            if (element != null) callback.accept(Result.success(element));
-                        });
-                        return;
+    /**
+     * Stores the output of a recipe known from another game mode or generates a new element
+     * if nobody knows the combination yet.
+     * @param inputA The first input of the combination.
+     * @param inputB The second input of the combination.
+     * @param result The future returned to the caller, nothing is stored once it is cancelled.
+     * @return A future completed with the stored element.
+     */
+    private CompletableFuture<Element> findRecipeOrGenerate(String inputA, String inputB,
+                                                            CompletableFuture<Element> result) {
+        return cancelledWith(result, recipeRepository.findAsync(inputA, inputB))
+                .thenCompose(recipe -> {
+                    if (recipe != null) {
+                        Log.i(TAG, "Recipe found for combination: " + recipe);
+                        if (result.isCancelled()) return Futures.cancelled();
+                        return storeNew(inputA, inputB, recipe.toElement());
                     }
 
-                    // If no combination exists, generate a new element
+                    // If nobody knows the combination, generate a new element
                     Log.i(TAG, "No combination found for combination: "
-                            + element1 + " + " + element2);
-
-                    elementRepository.generateNew(element1.toString(), element2.toString(),
-                            result -> {
-                        if (result.isError()) {
-                            Log.e(TAG, "Failed to generate element: " + result.getError());
-                            callback.accept(result);
-                            return;
-                        }
-
-                        handleGenerateNew(element1, element2, result.getData(), callback);
-                    });
+                            + inputA + " + " + inputB);
+                    CompletableFuture<Element> generation =
+                            elementRepository.generateNewAsync(inputA, inputB);
+                    // The element is paid for, so keep it even if it is late or unused
+                    generation.thenAccept(newElement ->
+                            recipeRepository.remember(inputA, inputB, newElement));
+                    return Futures.withTimeout(generation,
+                                    GENERATE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                            .thenCompose(newElement -> {
+                                Log.i(TAG, "Generated new element: "
+                                        + newElement.emoji + " " + newElement.name);
+                                // Nobody waits for the element anymore
+                                if (result.isCancelled()) return Futures.cancelled();
+                                return storeNew(inputA, inputB, newElement);
+                            });
                 });
     }
 
     /**
-     * Handles the generation of a new element based on two input elements.
-     * It checks if the new element already exists in the repository.
-     * If it does, it retrieves the existing element; otherwise, it inserts the new element.
-     * @param element1 The first input element.
-     * @param element2 The second input element.
-     * @param newElement The newly generated ElementEntity to be processed.
-     * @param callback A callback to be executed with the resulting ElementEntity.
+     * Cancels a pending lookup as soon as the result of the combination is cancelled.
+     * A lookup which did not start yet is then not executed.
+     * @param result The future returned to the caller.
+     * @param lookup The pending lookup.
+     * @param <T> type of the looked up value
+     * @return The given lookup.
      */
-    private void handleGenerateNew(Element element1, Element element2, Element newElement,
-                                   Consumer<Result<Element>> callback) {
-        Log.i(TAG, "Generated new element: " + newElement.emoji + " " + newElement.name);
-
-        // Check if the new element already exists in the repository
-        elementRepository.findByName(newElement.name, existingElement -> {
-            // If the element exists, return it via the callback
-            if (existingElement != null) {
-                Log.i(TAG, "Element already exists: "
-                        + existingElement.emoji + " " + existingElement.name);
-
-                insertCombination(element1, element2, existingElement, callback);
-                return;
+    private static <T> CompletableFuture<T> cancelledWith(CompletableFuture<?> result,
+                                                          CompletableFuture<T> lookup) {
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) lookup.cancel(false);
+        });
+        return lookup;
+    }
+
+    /**
+     * Retrieves the output element of an existing combination.
+     * @param combination The existing combination.
+     * @return A future completed with the output element.
+     */
+    private CompletableFuture<Element> findOutput(Combination combination) {
+        return elementRepository.findByIdAsync(combination.outputId).thenApply(element -> {
+            if (element == null) {
+                throw new CompletionException(new CombinationException(
+                        "Output element " + combination.outputId + " does not exist"));
             }
-            Log.i(TAG, "Element does not exist, inserting new element: "
-                    + newElement.emoji + " " + newElement.name);
-
-            // If the element does not exist, insert it and create a new combination
-            elementRepository.insertElement(newElement, insertedElement -> {
-                Log.i(TAG, "Inserted new element with ID: " + insertedElement.id);
-                insertCombination(element1, element2, insertedElement, callback);
-            });
+            return element;
         });
     }
 
     /**
-     * Inserts a new combination into the repository.
-     * This method is called when a new element is generated and needs to be associated
-     * with the input elements.
-     * @param element1 The first input element.
-     * @param element2 The second input element.
-     * @param outputElement The resulting output element from the combination.
-     * @param callback A callback to be executed after the combination is inserted.
+     * Stores an element which is new to the game mode and the combination which produced it.
+     * If an element with the same name exists already, the existing element is used.
+     * @param inputA The first input of the combination.
+     * @param inputB The second input of the combination.
+     * @param newElement The generated element or the output of a known recipe.
+     * @return A future completed with the stored element.
      */
-    private void insertCombination(Element element1, Element element2,
-                                   Element outputElement,
-                                   Consumer<Result<Element>> callback) {
-        combinationRepository.insertCombination(
-                new Combination(element1.toString(), element2.toString(), outputElement.id),
-                result -> {
-                    if(result.isError()) {
-                        Log.w(TAG, "Combination could not be inserted for: "
-                                + element1 + " + " + element2);
-                        callback.accept(Result.failure(result.getError()));
-                    } else {
-                        Log.i(TAG, "Combination inserted for: " + element1 + " + " + element2);
-                        callback.accept(Result.success(outputElement));
-                    }
+    private CompletableFuture<Element> storeNew(String inputA, String inputB,
+                                                Element newElement) {
+        return elementRepository.insertElementAsync(newElement)
+                .thenCompose(outputElement -> {
+                    Log.i(TAG, "Stored element with ID: " + outputElement.id);
+                    return combinationRepository.insertCombinationAsync(
+                            new Combination(inputA, inputB, outputElement.id))
+                            .thenApply(combination -> {
+                                Log.i(TAG, "Combination inserted for: "
+                                        + inputA + " + " + inputB);
+                                return outputElement;
+                            });
                 });
     }
 }
@@ -4,13 +4,13 @@ import android.util.Log;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import de.thm.mixit.data.entity.Element;
 import de.thm.mixit.data.entity.GameState;
-import de.thm.mixit.data.entity.Statistic;
 import de.thm.mixit.data.model.ElementChip;
-import de.thm.mixit.data.model.Result;
+import de.thm.mixit.data.model.ElementUsage;
 import de.thm.mixit.data.repository.CombinationRepository;
 import de.thm.mixit.data.repository.ElementRepository;
 import de.thm.mixit.data.repository.GameStateRepository;
@@ -27,8 +27,7 @@ public class GameStateUseCase {
     private final ElementRepository elementRepository;
     private final GameStateRepository gameStateRepository;
     private final StatisticRepository statisticRepository;
-    private Statistic statistics;
-    private GameState gameState;
+    private volatile GameState gameState;
 
     /**
      * Constructor for CombinationUseCase.
@@ -58,82 +57,175 @@ public class GameStateUseCase {
     }
 
     /**
-     * Returns all elements from the repository
-     * @param callback the current list of elements
+     * Returns one page of elements ordered by id from the repository
+     * @param afterId id of the last element of the previous page or 0 for the first page
+     * @param limit maximum number of elements of the page
+     * @param callback the elements of the page
      */
-    public void getAllElements(Consumer<List<Element>> callback) {
-        elementRepository.getAll(callback);
+    public void getElementPage(int afterId, int limit, Consumer<List<Element>> callback) {
+        elementRepository.getPage(afterId, limit, callback);
     }
 
     /**
-     * Returns the loaded or saved statistics
-     * @return {@link Statistic}
+     * Returns the usage of all elements which are the output of a combination
+     * @param callback the usages, see {@link ElementUsage}
      */
-    public Statistic getStatistics() {
-        return statistics;
+    public void getElementUsages(Consumer<List<ElementUsage>> callback) {
+        combinationRepository.getUsages(callback);
     }
 
     /**
-     * Loads the game state and statistics from the repository.
-     * If there is no target word, a new one will be fetched from the repository.
-     * @param callback the loaded game state or an error
+     * Returns the usage of one element
+     * @param elementId id of the element
+     * @param callback the usage, see {@link ElementUsage}
      */
-    public void load(Consumer<Result<GameState>> callback) {
-        statistics = statisticRepository.loadStatistic();
-        gameState = gameStateRepository.loadGameState();
-        ElementChip.setId(gameState.getHighestElementChipID() + 1);
+    public void getElementUsage(int elementId, Consumer<ElementUsage> callback) {
+        combinationRepository.getUsage(elementId, callback);
+    }
 
-        if (gameState.getTargetElement() == null) {
-            elementRepository.generateNewTargetWord(statistics.getLastTargetWords(),
-                    res -> {
-                if (res.isError()) {
-                    Log.e(TAG, "Couldn't fetch new target word: " + res.getError());
-                    callback.accept(Result.failure(res.getError()));
-                    return;
-                }
-                Log.i(TAG, "Fetched new Target Word\n" + Arrays.toString(res.getData()));
-                gameState.setTargetElement(res.getData());
-                callback.accept(Result.success(gameState));
-            });
-        }
+    /**
+     * Loads the game state from the repository in the background.
+     * <p>
+     * The game state must be loaded before any change of the playground is journaled.
+     * @return future completed with the loaded game state
+     */
+    public CompletableFuture<GameState> loadGameStateAsync() {
+        return gameStateRepository.loadGameStateAsync().thenApply(state -> {
+            ElementChip.setId(state.getHighestElementChipID() + 1);
+            gameState = state;
+            return state;
+        });
+    }
+
+    /**
+     * Loads the last target words which should not be chosen as the next target word.
+     * Does not depend on the game state, so it can run while the game state is loading.
+     * @return future completed with the last target words, oldest first
+     */
+    public CompletableFuture<List<String>> getLastTargetWordsAsync() {
+        return statisticRepository.getLastTargetWordsAsync();
+    }
+
+    /**
+     * Fetches a new target word and sets it as target element of the game state.
+     * @param gameState the loaded game state without a target element
+     * @param lastTargetWords the last target words, see {@link #getLastTargetWordsAsync()}
+     * @return future completed with the new target element or the error of the fetch
+     */
+    public CompletableFuture<String[]> generateTargetWordAsync(GameState gameState,
+                                                              List<String> lastTargetWords) {
+        return elementRepository.generateNewTargetWordAsync(lastTargetWords)
+                .whenComplete((target, error) -> {
+                    if (error != null) {
+                        Log.e(TAG, "Couldn't fetch new target word: " + error);
+                        return;
+                    }
+                    Log.i(TAG, "Fetched new Target Word\n" + Arrays.toString(target));
+                    gameState.setTargetElement(target);
+                });
     }
 
     /**
-     * Saves the game state and statistics to the repository.
-     * Updates the statistics with the playtime of the session,
-     * the last target words, the most combinations for one element,
+     * Journals a chip which was added to the playground.
+     * @param chip the added chip
+     */
+    public void logChipAdded(ElementChip chip) {
+        gameStateRepository.logChipAdded(chip);
+    }
+
+    /**
+     * Journals the new position of a chip.
+     * @param chip the moved chip with its new position
+     */
+    public void logChipMoved(ElementChip chip) {
+        gameStateRepository.logChipMoved(chip);
+    }
+
+    /**
+     * Journals a chip which was removed from the playground.
+     * @param chip the removed chip
+     */
+    public void logChipRemoved(ElementChip chip) {
+        gameStateRepository.logChipRemoved(chip);
+    }
+
+    /**
+     * Journals a successful combination on the playground.
+     * @param chip1 the first reactant
+     * @param chip2 the second reactant
+     * @param product the chip of the new element
+     */
+    public void logCombination(ElementChip chip1, ElementChip chip2, ElementChip product) {
+        gameStateRepository.logCombination(chip1, chip2, product);
+    }
+
+    /**
+     * Journals that the playground was cleared.
+     */
+    public void logPlaygroundCleared() {
+        gameStateRepository.logPlaygroundCleared();
+    }
+
+    /**
+     * Records a combination attempt in the statistics.
+     */
+    public void recordCombination() {
+        statisticRepository.increaseNumberOfCombinations();
+    }
+
+    /**
+     * Records a newly created element in the statistics.
+     * @param name name of the created element
+     */
+    public void recordNewElement(String name) {
+        statisticRepository.updateLongestElement(name);
+    }
+
+    /**
+     * Records elements which were discarded from the playground at once.
+     * @param count number of discarded elements
+     */
+    public void recordDiscardedElements(int count) {
+        statisticRepository.addDiscardedElements(count);
+    }
+
+    /**
+     * Records a won arcade game in the statistics.
+     * @param time passed time in seconds
+     * @param turns taken turns
+     */
+    public void recordArcadeWin(long time, int turns) {
+        statisticRepository.addArcadeWin(time, turns);
+    }
+
+    /**
+     * Saves the game state to the repository and updates the statistics with
+     * the playtime of the session, the last target words, the most combinations for one element,
      * the number of unlocked elements and whether the chocolate cake was found.
+     * <p>
+     * Every statistic is written as a single atomic update, so concurrent sessions of both
+     * game modes never overwrite each other.
      * @param gameState the current game state
-     * @param statistics the current statistics
-     */
-    public void save(GameState gameState, Statistic statistics) {
-        // Add playtime of session to sum of playtime
-        double playtimeInHours = ((gameState.getTime() - this.gameState.getTime()) / 3600.0);
-        statistics.addPlaytime(playtimeInHours);
-        // If the target word wasn't recorded, add it to the list of the last target words
-        List<String> lastTargetWords = statistics.getLastTargetWords();
-        if (gameState.getTargetElement() != null
-                && (lastTargetWords.isEmpty() || !gameState.getTargetElement()[0]
-                .equals(lastTargetWords.get(lastTargetWords.size() - 1)))) {
-            statistics.addTargetWord(gameState.getTargetElement()[0]);
+     */
+    public void save(GameState gameState) {
+        // Add playtime since the last save to sum of playtime
+        double playtimeInHours =
+                (gameState.getTimeMillis() - this.gameState.getTimeMillis()) / 3_600_000.0;
+        statisticRepository.addPlaytime(playtimeInHours);
+        if (gameState.getTargetElement() != null) {
+            statisticRepository.addTargetWord(gameState.getTargetElement()[0]);
         }
         this.gameState = gameState;
-        this.statistics = statistics;
         gameStateRepository.saveGameState(gameState);
-        statisticRepository.saveStatistic(statistics);
 
         // Check via db query for a new Record for the most combinations for one element
-        combinationRepository.getAmountOfMostOccurringOutputId( res -> {
-            this.statistics.setMostCombinationsForOneElement(res);
-            statisticRepository.saveStatistic(this.statistics);
-        });
+        combinationRepository.getAmountOfMostOccurringOutputId(
+                statisticRepository::updateMostCombinationsForOneElement);
 
         // Get via db query the amount of unlocked elements
-        elementRepository.getAll(res -> {
-            this.statistics.setNumberOfUnlockedElements(res.size());
-            this.statistics.setFoundChocolateCake(res.stream()
-                    .anyMatch(e -> e.name.equals("Schokokuchen")));
-            statisticRepository.saveStatistic(statistics);
+        elementRepository.count(statisticRepository::updateNumberOfUnlockedElements);
+        elementRepository.findByName("Schokokuchen", e -> {
+            if (e != null) statisticRepository.setFoundChocolateCake();
         });
     }
 }
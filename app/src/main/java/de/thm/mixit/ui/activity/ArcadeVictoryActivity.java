@@ -14,6 +14,7 @@ import androidx.core.content.ContextCompat;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import de.thm.mixit.BuildConfig;
@@ -48,19 +49,21 @@ public class ArcadeVictoryActivity extends AppCompatActivity {
     private Element targetWord;
     private KonfettiView confettiView;
     private Shape.DrawableShape drawableShape;
+    private CompletableFuture<Void> arcadeReset;
 
 
     @Override
     protected void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
-        // Delete the GameStateRepository for the saved arcade game state after winning.
+        // Delete the saved arcade game state and reset the arcade elements after winning.
         GameStateRepository gameStateRepository = GameStateRepository.create(this,true);
-        gameStateRepository.deleteSavedGameState();
-
-        // Resets the ElementRepository for the saved arcade game state after winning.
         ElementRepository elementRepository = ElementRepository.create(this, true);
-        elementRepository.reset();
+        arcadeReset = CompletableFuture.allOf(
+                gameStateRepository.deleteSavedGameState(),
+                elementRepository.reset()).whenComplete((v, e) -> {
+            if (e != null) Log.e(TAG, "Couldn't reset the arcade game", e);
+        });
 
         Intent intent = getIntent();
 
@@ -126,7 +129,9 @@ public class ArcadeVictoryActivity extends AppCompatActivity {
         if(BuildConfig.DEBUG) Log.d(TAG, "New game button clicked");
         Intent intent = new Intent(this, GameActivity.class);
         intent.putExtra(GameActivity.EXTRA_IS_ARCADE, true);
-        startActivity(intent);
+        // The new game must not start before the won game is reset
+        arcadeReset.whenCompleteAsync((v, e) -> startActivity(intent),
+                ContextCompat.getMainExecutor(this));
     }
 
     /**
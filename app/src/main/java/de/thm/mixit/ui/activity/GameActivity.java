@@ -1,8 +1,6 @@
 package de.thm.mixit.ui.activity;
 import android.content.Intent;
 import android.os.Bundle;
-import android.os.Handler;
-import android.os.Looper;
 import android.transition.TransitionManager;
 import android.util.Log;
 import android.view.View;
@@ -39,8 +37,8 @@ public class GameActivity extends AppCompatActivity {
     private static final String TAG = GameActivity.class.getSimpleName();
     private GameViewModel viewModel;
     private final FragmentManager fragmentManager = getSupportFragmentManager();
-    private Handler timeHandler;
     private boolean isArcade = false;
+    private boolean isLoadStarted = false;
 
     @Override
     protected void onCreate(@Nullable Bundle savedInstanceState) {
@@ -56,6 +54,9 @@ public class GameActivity extends AppCompatActivity {
 
         viewModel = new ViewModelProvider(this, new GameViewModel.Factory(this, isArcade))
                 .get(GameViewModel.class);
+        // Start loading before the layout is inflated, the loads run in the background
+        viewModel.load();
+        isLoadStarted = true;
         setContentView(R.layout.activity_game);
 
         if (!isArcade) {
@@ -71,22 +72,22 @@ public class GameActivity extends AppCompatActivity {
 
         setElementListCardVisible(false);
 
-        this.timeHandler = new Handler(Looper.getMainLooper());
-
         Log.i(TAG, "GameActivity was created");
     }
 
     @Override
     protected void onResume() {
         super.onResume();
-        viewModel.load();
-        timeHandler.post(updateTimerRunnable);
+        // The game was already loaded in onCreate
+        if (!isLoadStarted) viewModel.load();
+        isLoadStarted = false;
+        viewModel.resumeClock();
     }
 
     @Override
     protected void onPause() {
         super.onPause();
-        timeHandler.removeCallbacks(updateTimerRunnable);
+        viewModel.pauseClock();
         viewModel.save();
     }
 
@@ -134,18 +135,4 @@ public class GameActivity extends AppCompatActivity {
     public boolean isArcade() {
         return isArcade;
     }
-
-    /**
-     * Worker thread used to measure the playtime
-     */
-    private final Runnable updateTimerRunnable = new Runnable() {
-        @Override
-        public void run() {
-            assert viewModel.getPassedTime().getValue() != null;
-            viewModel.setPassedTime(viewModel.getPassedTime().getValue() + 1);
-
-            // Handler calls it again every second
-            timeHandler.postDelayed(this, 1000);
-        }
-    };
 }
@@ -9,6 +9,9 @@ import android.widget.Button;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.app.AppCompatDelegate;
+import androidx.core.content.ContextCompat;
+
+import java.util.concurrent.CompletableFuture;
 
 import de.thm.mixit.R;
 import de.thm.mixit.data.repository.ElementRepository;
@@ -33,9 +36,12 @@ public class MainActivity extends AppCompatActivity {
 
     private static final String TAG = MainActivity.class.getSimpleName();
     private GameStateRepository gameStateRepository;
+    private CompletableFuture<Void> arcadeReset = CompletableFuture.completedFuture(null);
 
     @Override
     protected void onCreate(@Nullable Bundle savedInstanceState) {
+        // Build the client for new elements in the background while the menu is shown
+        ElementRepository.initializeRemote();
         gameStateRepository = GameStateRepository.create(this,true);
         SettingsRepository settingsRepository = SettingsRepository.create(this);
 
@@ -83,7 +89,9 @@ public class MainActivity extends AppCompatActivity {
         Log.i(TAG, "Arcade Button was clicked.");
         Intent intent = new Intent(this, GameActivity.class);
         intent.putExtra(GameActivity.EXTRA_IS_ARCADE, true);
-        startActivity(intent);
+        // The new game must not start before the deleted game is reset
+        arcadeReset.whenCompleteAsync((v, e) -> startActivity(intent),
+                ContextCompat.getMainExecutor(this));
     }
 
     /**
@@ -92,9 +100,12 @@ public class MainActivity extends AppCompatActivity {
      */
     public void onArcadeDeleteSaveStateButtonClicked(View view) {
         Log.i(TAG, "Arcade delete Savestate Button was clicked.");
-        gameStateRepository.deleteSavedGameState();
         ElementRepository elementRepository = ElementRepository.create(this, true);
-        elementRepository.reset();
+        arcadeReset = CompletableFuture.allOf(
+                gameStateRepository.deleteSavedGameState(),
+                elementRepository.reset()).whenComplete((v, e) -> {
+            if (e != null) Log.e(TAG, "Couldn't reset the arcade game", e);
+        });
         setVisibilityOfDeleteArcadeSaveStateButton(false);
     }
 
@@ -1,31 +1,33 @@
 package de.thm.mixit.ui.adapter;
 
-import android.annotation.SuppressLint;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import de.thm.mixit.R;
 import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.domain.logic.ElementItemCallback;
 
 /**
- * Filterable recycler view adapter for element entities
- * FIXME: Use DiffUtil or notifyItemChanged/Inserted/Removed to improve performance
+ * Recycler view adapter for element entities, filtering is done by the
+ * {@link de.thm.mixit.ui.viewmodel.GameViewModel}
+ * <p>
+ * Every new list is diffed against the shown one on a background thread, so filtering and
+ * new discoveries only rebind the items which actually changed. Items have stable ids
+ * taken from {@link Element#id}.
  *
  * @author Josia Menger
  */
 public class ElementRecyclerViewAdapter extends
-        RecyclerView.Adapter<ElementRecyclerViewAdapter.ElementViewHolder> {
+        ListAdapter<Element, ElementRecyclerViewAdapter.ElementViewHolder> {
 
-    private List<Element> elements;
-    private final List<Element> filteredElements;
     private final OnElementClickListener listener;
 
     public interface OnElementClickListener {
@@ -38,8 +40,9 @@ public class ElementRecyclerViewAdapter extends
      * @param listener Callback method to call when an element card is clicked
      */
     public ElementRecyclerViewAdapter(OnElementClickListener listener) {
-        this.filteredElements = new ArrayList<>();
+        super(new ElementItemCallback());
         this.listener = listener;
+        setHasStableIds(true);
     }
 
     @NonNull
@@ -58,56 +61,24 @@ public class ElementRecyclerViewAdapter extends
 
     @Override
     public void onBindViewHolder(@NonNull ElementViewHolder holder, int position) {
-        Element element = filteredElements.get(position);
-        holder.bind(element, position, listener);
+        holder.bind(getItem(position), listener);
     }
 
     @Override
-    public int getItemCount() {
-        return filteredElements.size();
+    public long getItemId(int position) {
+        return getItem(position).id;
     }
 
     /**
-     * Set the elements to the new list and reset the filter
+     * Set the elements to the new list
+     * <p>
+     * The view model only publishes lists which do not change anymore, so the list is not
+     * copied and a discovered element costs constant time on the main thread.
      * @param elements new elements
      */
-    @SuppressLint("NotifyDataSetChanged")
     public void setElements(List<Element> elements) {
-        this.elements = elements;
-        this.filteredElements.clear();
-
         // On initial call filtered elements might be null
-        if (elements != null) this.filteredElements.addAll(elements);
-
-        notifyDataSetChanged();
-    }
-
-    /**
-     * Filter elements by a string (case insensitive)
-     * <p>
-     * if the query is empty or only contains whitespaces the complete list is shown
-     * <p>
-     * @param query String to filter by
-     */
-    @SuppressLint("NotifyDataSetChanged")
-    public void filter(String query) {
-        filteredElements.clear();
-        String q = query.toLowerCase().trim();
-
-        // When the query is empty, show the complete list
-        if (q.isEmpty()) {
-            filteredElements.addAll(elements);
-            notifyDataSetChanged();
-            return;
-        }
-
-        for (Element element : elements) {
-            if (element.toString().toLowerCase().contains(q)) {
-                filteredElements.add(element);
-            }
-        }
-
-        notifyDataSetChanged();
+        submitList(elements);
     }
 
     /**
@@ -124,9 +95,11 @@ public class ElementRecyclerViewAdapter extends
             textView = itemView.findViewById(R.id.text_item_element);
         }
 
-        void bind(Element element, int positon, OnElementClickListener listener) {
+        void bind(Element element, OnElementClickListener listener) {
             textView.setText(element.toString());
-            itemView.setOnClickListener(v -> listener.onElementClick(element, positon));
+            // Items are moved without being rebound, so resolve the position on click
+            itemView.setOnClickListener(v ->
+                    listener.onElementClick(element, getBindingAdapterPosition()));
         }
     }
 }
@@ -1,6 +1,8 @@
 package de.thm.mixit.ui.fragment;
 
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -16,12 +18,17 @@ import de.thm.mixit.ui.viewmodel.GameViewModel;
 
 /**
  * Fragment class which holds information for the arcade game mode.
+ * <p>
+ * The shown play time is updated at every full second, but only while the fragment is resumed.
  *
  * @author Jannik Heimann
  */
 
 public class ArcadeFragment extends Fragment {
 
+    private final Handler timeHandler = new Handler(Looper.getMainLooper());
+    private GameViewModel viewModel;
+
     @Nullable
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater,
@@ -33,11 +40,34 @@ public class ArcadeFragment extends Fragment {
         GameActivity gameActivity = ((GameActivity) requireActivity());
 
         // Gets the viewmodel and applies it to the activity
-        GameViewModel viewModel = new ViewModelProvider(gameActivity,
+        viewModel = new ViewModelProvider(gameActivity,
                 new GameViewModel.Factory(gameActivity,
                         gameActivity.isArcade())).get(GameViewModel.class);
         binding.setViewModel(viewModel);
 
         return binding.getRoot();
     }
+
+    @Override
+    public void onResume() {
+        super.onResume();
+        timeHandler.post(updateTimerRunnable);
+    }
+
+    @Override
+    public void onPause() {
+        super.onPause();
+        timeHandler.removeCallbacks(updateTimerRunnable);
+    }
+
+    /**
+     * Shows the current play time and runs again when the next full second is reached
+     */
+    private final Runnable updateTimerRunnable = new Runnable() {
+        @Override
+        public void run() {
+            viewModel.refreshPassedTime();
+            timeHandler.postDelayed(this, viewModel.getMillisUntilNextSecond());
+        }
+    };
 }
@@ -9,12 +9,14 @@ import android.view.LayoutInflater;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.AdapterView;
 import android.widget.AutoCompleteTextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.flexbox.AlignItems;
 import com.google.android.flexbox.FlexWrap;
@@ -25,6 +27,7 @@ import de.thm.mixit.BuildConfig;
 import de.thm.mixit.R;
 import de.thm.mixit.data.entity.Element;
 import de.thm.mixit.databinding.FragmentElementListBinding;
+import de.thm.mixit.domain.logic.ElementSortMode;
 import de.thm.mixit.ui.activity.GameActivity;
 import de.thm.mixit.ui.adapter.ElementRecyclerViewAdapter;
 import de.thm.mixit.ui.viewmodel.GameViewModel;
@@ -38,6 +41,10 @@ import de.thm.mixit.ui.viewmodel.GameViewModel;
 public class ElementListFragment extends Fragment {
 
     private static final String TAG = ElementListFragment.class.getSimpleName();
+    /**
+     * Number of elements left below the last visible one before the next page is loaded
+     */
+    private static final int PREFETCH_DISTANCE = 30;
 
     private GameViewModel viewModel;
     private FragmentElementListBinding binding;
@@ -60,9 +67,22 @@ public class ElementListFragment extends Fragment {
                         gameActivity.isArcade())).get(GameViewModel.class);
         binding.setViewModel(viewModel);
 
-        binding.setLayoutManager(getLayoutManager());
+        FlexboxLayoutManager layoutManager = getLayoutManager();
+        binding.setLayoutManager(layoutManager);
         binding.setRecyclerViewAdapter(new ElementRecyclerViewAdapter(this::onClickElement));
 
+        // Load the next page of elements shortly before the end of the list is reached
+        binding.recyclerGameItemList.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0) return;
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= layoutManager.getItemCount() - PREFETCH_DISTANCE) {
+                    viewModel.loadNextPage();
+                }
+            }
+        });
+
         // Filter list based on search
         AutoCompleteTextView search = binding.autoTextGameItemListSearch;
         search.addTextChangedListener(getTextWatcher());
@@ -78,7 +98,22 @@ public class ElementListFragment extends Fragment {
             }
             return false;
         });
-        
+
+        // Order list based on the selected sort mode
+        binding.spinnerGameItemListSort.setSelection(
+                viewModel.getSortMode().getValue().ordinal(), false);
+        binding.spinnerGameItemListSort.setOnItemSelectedListener(
+                new AdapterView.OnItemSelectedListener() {
+            @Override
+            public void onItemSelected(AdapterView<?> parent, View view, int position, long id) {
+                if (BuildConfig.DEBUG) Log.d(TAG, "Selected sort mode: " + position);
+                viewModel.setSortMode(ElementSortMode.values()[position]);
+            }
+
+            @Override
+            public void onNothingSelected(AdapterView<?> parent) {}
+        });
+
         return binding.getRoot();
     }
 
@@ -1,7 +1,5 @@
 package de.thm.mixit.ui.fragment;
 
-import android.animation.AnimatorSet;
-import android.animation.ObjectAnimator;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.Intent;
@@ -9,6 +7,7 @@ import android.content.res.ColorStateList;
 import android.content.res.Configuration;
 import android.graphics.Color;
 import android.graphics.Rect;
+import android.graphics.RectF;
 import android.os.Bundle;
 import android.util.Log;
 import android.view.GestureDetector;
@@ -24,18 +23,17 @@ import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
 import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
-import androidx.recyclerview.widget.DiffUtil;
 
 import com.google.android.material.color.MaterialColors;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.android.material.snackbar.Snackbar;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
 
 import de.thm.mixit.BuildConfig;
 import de.thm.mixit.R;
@@ -43,12 +41,16 @@ import de.thm.mixit.data.entity.Element;
 import de.thm.mixit.data.exception.CombinationException;
 import de.thm.mixit.data.exception.InvalidTargetWordException;
 import de.thm.mixit.data.model.ElementChip;
+import de.thm.mixit.data.model.PlaygroundEvent;
 import de.thm.mixit.databinding.FragmentPlaygroundBinding;
-import de.thm.mixit.domain.logic.ElementDiffCallback;
-import de.thm.mixit.domain.logic.GenericListChangeHandler;
-import de.thm.mixit.domain.logic.GenericListUpdateCallback;
+import de.thm.mixit.domain.logic.ChipRegistry;
+import de.thm.mixit.domain.logic.PlacementEngine;
+import de.thm.mixit.domain.logic.PlaygroundCoordinates;
+import de.thm.mixit.domain.logic.SpatialHashGrid;
 import de.thm.mixit.ui.activity.ArcadeVictoryActivity;
 import de.thm.mixit.ui.activity.GameActivity;
+import de.thm.mixit.ui.view.ChipPulseDriver;
+import de.thm.mixit.ui.view.PlaygroundCanvasView;
 import de.thm.mixit.ui.viewmodel.GameViewModel;
 
 /**
@@ -56,18 +58,47 @@ import de.thm.mixit.ui.viewmodel.GameViewModel;
  *
  * @author Oliver Schlalos
  */
-public class PlaygroundFragment extends Fragment implements GenericListChangeHandler<ElementChip> {
+public class PlaygroundFragment extends Fragment {
 
     private final static String TAG = PlaygroundFragment.class.getSimpleName();
+    /**
+     * Edge length of a cell of the {@link SpatialHashGrid}, about the size of a chip
+     */
+    private static final float GRID_CELL_SIZE_DP = 96;
+    /**
+     * Maximum number of removed chip views which are kept for reuse
+     */
+    private static final int MAX_POOLED_CHIP_VIEWS = 256;
     private GameViewModel viewModel;
     private FrameLayout playground;
     private LayoutInflater inflater;
     private FloatingActionButton clearElementsButton;
     private FloatingActionButton showElementListButton;
 
-    private final List<ElementChip> currentElements = new ArrayList<>();
+    // Chips shown on the playground and their views by id, views are only used without canvas
+    private final ChipRegistry<TextView> chips = new ChipRegistry<>();
+    // Version of the last applied playground event
+    private int appliedVersion = -1;
+
+    // Pulses the chips which are waiting for the result of their combination
+    private final ChipPulseDriver pulseDriver = new ChipPulseDriver();
 
-    private final Map<Integer, ObjectAnimator> animations = new HashMap<>();
+    // Removed chip views for reuse
+    private final ArrayDeque<TextView> chipViewPool = new ArrayDeque<>();
+
+    // Bounds of all chip views, used for hit tests instead of iterating over all views
+    private SpatialHashGrid chipGrid;
+    private PlacementEngine placementEngine;
+    // Maps the normalized positions of the chips to pixels of the playground
+    private final PlaygroundCoordinates coordinates = new PlaygroundCoordinates();
+    private final Rect draggedRect = new Rect();
+    private final Rect deleteButtonRect = new Rect();
+
+    // Draws all chips instead of one view per chip, only set if the canvas renderer is enabled
+    private PlaygroundCanvasView canvasView;
+    private final RectF chipRect = new RectF();
+    private final float[] chipSize = new float[2];
+    private final float[] freePosition = new float[2];
 
     @Nullable
     @Override
@@ -87,9 +118,30 @@ public class PlaygroundFragment extends Fragment implements GenericListChangeHan
                         gameActivity.isArcade())).get(GameViewModel.class);
 
         playground = binding.layoutPlayground;
+        chipGrid = new SpatialHashGrid(
+                GRID_CELL_SIZE_DP * getResources().getDisplayMetrics().density);
+        placementEngine = new PlacementEngine(chipGrid);
         clearElementsButton = binding.buttonClearElements;
         showElementListButton = binding.buttonOpenElementList;
 
+        if (BuildConfig.CANVAS_PLAYGROUND) {
+            canvasView = new PlaygroundCanvasView(requireContext());
+            canvasView.setChipGrid(chipGrid);
+            canvasView.setCoordinates(coordinates);
+            canvasView.setChipListener(new CanvasChipListener());
+            // Below the buttons, so they still receive their touches
+            playground.addView(canvasView, 0, new FrameLayout.LayoutParams(
+                    ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+        } else {
+            playground.setOnTouchListener(new ChipTouchHandler());
+        }
+
+        // Move all chips to their relative position e.g. after a change of orientation
+        playground.addOnLayoutChangeListener((v, left, top, right, bottom,
+                                              oldLeft, oldTop, oldRight, oldBottom) -> {
+            if (coordinates.setSize(right - left, bottom - top)) relayoutChips();
+        });
+
         clearElementsButton.setOnClickListener(view -> viewModel.clearPlayground());
 
         // Register a callback to open the element list when the button has been clicked
@@ -112,7 +164,8 @@ public class PlaygroundFragment extends Fragment implements GenericListChangeHan
                     );
                 });
 
-        viewModel.getElementsOnPlayground().observe(getViewLifecycleOwner(), this::updateElements);
+        syncPlayground();
+        viewModel.getPlaygroundEvents().observe(getViewLifecycleOwner(), this::onPlaygroundEvent);
         viewModel.getError().observe(getViewLifecycleOwner(), this::handleError);
 
         // Observe the isWon state inside the viewmodel to handle the player winning the game
@@ -139,40 +192,208 @@ public class PlaygroundFragment extends Fragment implements GenericListChangeHan
     }
 
     @Override
-    public void onResume() {
-        super.onResume();
+    public void onDestroyView() {
+        super.onDestroyView();
+        pulseDriver.stopAll();
+    }
 
-        // Check if elements were placed out of bounds e.g. after a change of orientation
-        if (getView()!= null) {
-            getView().post(this::checkForOutOfBoundsElements);
+    /**
+     * Applies a single change of the playground. If events were missed in the meantime,
+     * e.g. while the fragment was stopped, the whole playground is synchronized instead.
+     *
+     * @param event the change to apply
+     */
+    private void onPlaygroundEvent(PlaygroundEvent event) {
+        if (event == null || event.getVersion() <= appliedVersion) return;
+        if (BuildConfig.DEBUG) Log.v(TAG, "Apply " + event);
+        if (event.getVersion() != appliedVersion + 1
+                || event.getType() == PlaygroundEvent.Type.RESET) {
+            syncPlayground();
+            return;
+        }
+        appliedVersion = event.getVersion();
+
+        switch (event.getType()) {
+            case ADDED:
+                addChip(event.getChip());
+                break;
+            case REMOVED:
+                removeChip(event.getChip());
+                break;
+            case MOVED:
+                moveChip(event.getChip());
+                break;
+            case COMBINED:
+                removeChip(event.getReactant1());
+                removeChip(event.getReactant2());
+                addChip(event.getChip());
+                break;
+            case COMBINATION_FAILED:
+                stopPulse(event.getReactant1());
+                stopPulse(event.getReactant2());
+                break;
         }
     }
 
-    @Override
-    public void onItemInserted(ElementChip item, int position) {
-        playground.addView(createElement(item));
+    /**
+     * Updates the displayed element chips to all chips of the viewmodel.
+     * Chips which are already shown are only moved.
+     */
+    private void syncPlayground() {
+        List<ElementChip> newChips = viewModel.getElementsOnPlayground().getValue();
+        if (newChips == null) return;
+        if (BuildConfig.DEBUG) {
+            Log.d(TAG, "New elements size: " + newChips.size()
+                    + " Old elements size: " + chips.size());
+        }
+
+        Map<Integer, ElementChip> next = new HashMap<>();
+        for (ElementChip chip : newChips) next.put(chip.getId(), chip);
+        for (ElementChip chip : new ArrayList<>(chips.getChips())) {
+            // A chip loaded again is equal to the shown one, but a different instance
+            if (next.get(chip.getId()) != chip) removeChip(chip);
+        }
+        for (ElementChip chip : newChips) {
+            if (!chips.contains(chip.getId())) addChip(chip);
+            else moveChip(chip);
+        }
+        // A failed combination may have been missed as well
+        cancelCombination();
+        appliedVersion = viewModel.getPlaygroundVersion();
     }
 
-    @Override
-    public void onItemRemoved(ElementChip item, int position) {
-        View view = playground.findViewWithTag(item.getId());
+    private void addChip(ElementChip item) {
+        chips.put(item);
+        if (canvasView != null) {
+            canvasView.addChip(item);
+            layoutChip(item);
+            return;
+        }
+        View view = createElement(item);
+        playground.addView(view);
+        // Still waiting for the result of a combination, e.g. after a change of orientation
+        if (item.isAnimated()) pulseDriver.start(item.getId(), view);
+    }
+
+    private void removeChip(ElementChip item) {
+        TextView view = chips.remove(item.getId());
+        if (canvasView != null) {
+            canvasView.removeChip(item.getId());
+            return;
+        }
+        chipGrid.remove(item.getId());
+        pulseDriver.stop(item.getId());
+
         if (view != null) {
             playground.removeView(view);
+            recycleChipView(view);
         }
     }
 
-    @Override
-    public void onItemChanged(ElementChip item, int position) {
-        View view = playground.findViewWithTag(item.getId());
-        if (view != null) {
-            view.setX(item.getX());
-            view.setY(item.getY());
+    private void moveChip(ElementChip item) {
+        layoutChip(item);
+    }
+
+    private void stopPulse(ElementChip item) {
+        if (canvasView != null) {
+            // The canvas stops the pulse of chips which are not animated anymore by itself
+            canvasView.invalidate();
+            return;
         }
+        pulseDriver.stop(item.getId());
+    }
+
+    /**
+     * Maps the normalized positions of all chips to the current size of the playground.
+     */
+    private void relayoutChips() {
+        if (BuildConfig.DEBUG) Log.d(TAG, "Relayout " + chips.size() + " chips");
+        // Placed chips first, so the chips placed afterwards don't overlap with them
+        for (ElementChip chip : chips.getChips()) {
+            if (!PlaygroundCoordinates.isUnplaced(chip.getX(), chip.getY())) layoutChip(chip);
+        }
+        for (ElementChip chip : chips.getChips()) {
+            if (PlaygroundCoordinates.isUnplaced(chip.getX(), chip.getY())) layoutChip(chip);
+        }
+    }
+
+    /**
+     * Moves a chip to the pixels of its normalized position. A chip which was not placed yet
+     * gets the free position closest to the center, a position stored in pixels by an older
+     * version is normalized first. Both are passed to the viewmodel like a move, so the chip
+     * keeps its position after a restart. Does nothing until the playground was laid out.
+     *
+     * @param chip the chip to move
+     */
+    private void layoutChip(ElementChip chip) {
+        View view = null;
+        if (canvasView != null) {
+            canvasView.measureChip(chip.getElement(), chipSize);
+        } else {
+            view = chips.getView(chip.getId());
+            if (view == null) return;
+            chipSize[0] = view.getMeasuredWidth();
+            chipSize[1] = view.getMeasuredHeight();
+        }
+        if (!coordinates.hasSize()) return;
+
+        float x = chip.getX();
+        float y = chip.getY();
+        if (PlaygroundCoordinates.isUnplaced(x, y)) {
+            // Don't let the chip block the space for itself
+            chipGrid.remove(chip.getId());
+            float[] freeSpace = getFreeSpace(chipSize[0], chipSize[1]);
+            x = coordinates.toNormalizedX(freeSpace[0], chipSize[0]);
+            y = coordinates.toNormalizedY(freeSpace[1], chipSize[1]);
+        } else if (PlaygroundCoordinates.isLegacy(x, y)) {
+            x = coordinates.toNormalizedX(x, chipSize[0]);
+            y = coordinates.toNormalizedY(y, chipSize[1]);
+        }
+        if (x != chip.getX() || y != chip.getY()) {
+            // The position is saved like a move of the user
+            viewModel.updateElementPositonOnPlayground(chip, x, y);
+        }
+
+        if (canvasView != null) {
+            canvasView.updateChip(chip);
+            return;
+        }
+        view.setX(coordinates.toPixelX(x, chipSize[0]));
+        view.setY(coordinates.toPixelY(y, chipSize[1]));
+        updateChipBounds(view);
+    }
+
+    /**
+     * Adds a copy of a chip to the playground, slightly below and right of the chip
+     *
+     * @param chip      the chip to copy
+     * @param bounds    the bounds of the chip in pixels
+     */
+    private void duplicateChip(ElementChip chip, RectF bounds) {
+        if(BuildConfig.DEBUG) Log.d(TAG, "Double Tap on " +
+                chip.getElement() + " recognized");
+        final int OFFSET = 20;
+        viewModel.addElementToPlayground(new ElementChip(chip.getElement(),
+                coordinates.toNormalizedX(bounds.left + OFFSET, bounds.width()),
+                coordinates.toNormalizedY(bounds.top + OFFSET, bounds.height())));
+    }
+
+    /**
+     * Updates the bounds of a chip view inside the {@link #chipGrid}.
+     * Has to be called whenever the position or size of the view changes.
+     *
+     * @param view the view of the chip
+     */
+    private void updateChipBounds(View view) {
+        float x = view.getX();
+        float y = view.getY();
+        // A new view is laid out only in the next pass, but it was measured already
+        chipGrid.put((int) view.getTag(), x, y,
+                x + view.getMeasuredWidth(), y + view.getMeasuredHeight());
     }
 
     /**
      * Logs the given error, maps it to a user-friendly message, and shows it in a Snackbar.
-     * Cancels the current combination if the error is a {@link CombinationException}.
      *
      * @param error the error to handle, ignored if {@code null}.
      */
@@ -183,7 +404,6 @@ public class PlaygroundFragment extends Fragment implements GenericListChangeHan
         String text;
         if (error instanceof CombinationException) {
             text = "Cannot combine elements! Please check your internet connection.";
-            cancelCombination();
         } else if (error instanceof InvalidTargetWordException) {
             text = "Cannot generate target word! Please check your internet connection.";
         } else {
@@ -200,163 +420,104 @@ public class PlaygroundFragment extends Fragment implements GenericListChangeHan
     }
 
     /**
-     * Cancels element animations, restores affected chips to their default state and removes
-     * them from the active animations.
+     * Stops the pulse of all chips which are not part of an ongoing combination anymore
+     * and restores them to their default state.
      */
     private void cancelCombination() {
-        ArrayList<Integer> deletedIds = new ArrayList<>();
-
-        for (Map.Entry<Integer, ObjectAnimator> entry : animations.entrySet()) {
-            ElementChip chip = getChipById(entry.getKey());
-
-            if (chip == null || !chip.isAnimated()) {
-                entry.getValue().cancel();
-                deletedIds.add(entry.getKey());
-
-                if (chip != null) {
-                    View v = playground.findViewWithTag(chip.getId());
-                    v.setOnTouchListener(new TouchListener(chip));
-                    v.setAlpha(1f);
-                }
-            }
-        }
-
-        for (Integer id : deletedIds) {
-            animations.remove(id);
+        if (canvasView != null) {
+            // The canvas stops the pulse of chips which are not animated anymore by itself
+            canvasView.invalidate();
+            return;
         }
+        pulseDriver.stopWhere(id -> {
+            ElementChip chip = getChipById(id);
+            return chip == null || !chip.isAnimated();
+        });
     }
 
     /**
-     * Creates a {@link TextView} representing the given {@link ElementChip},
-     * positions it on the playground, and attaches a touch listener for interaction.
+     * Creates a {@link TextView} representing the given {@link ElementChip} and
+     * positions it on the playground. A removed view is reused if there is one.
+     * Touches on the view are handled by the {@link ChipTouchHandler} of the playground.
      *
      * @param chip  the element chip to render
      * @return      the created view for the chip
      */
-    @SuppressLint("ClickableViewAccessibility")
     private View createElement(ElementChip chip) {
-        TextView view = (TextView) inflater.inflate(R.layout.item_element_chip,
-                playground, false);
+        TextView view = chipViewPool.poll();
+        if (view == null) {
+            view = (TextView) inflater.inflate(R.layout.item_element_chip,
+                    playground, false);
+            // The size of the view is only known after it was laid out
+            view.addOnLayoutChangeListener((v, left, top, right, bottom,
+                                            oldLeft, oldTop, oldRight, oldBottom) -> {
+                if (v.getTag() != null) updateChipBounds(v);
+            });
+        }
         view.setText(chip.getElement().toString());
         view.setTag(chip.getId());
 
-        if(chip.getX() == -1 && chip.getY() == -1){
-            float[] freeSpace = getFreeSpace();
-            chip.setX(freeSpace[0]);
-            chip.setY(freeSpace[1]);
-        }
+        // The position depends on the size, a reused view still has the size of its previous chip
+        int unspecified = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        view.measure(unspecified, unspecified);
 
-        view.setX(chip.getX());
-        view.setY(chip.getY());
-        view.setOnTouchListener(new TouchListener(chip));
+        chips.putView(chip.getId(), view);
+        layoutChip(chip);
         return view;
     }
 
     /**
-     * Gets an ElementChip by a specified id
+     * Resets a removed chip view and keeps it for the next inserted chip
      *
-     * @param id    The id of the ElementChip to get
-     * @return      An ElementChip when one has been found or null
+     * @param view  the removed view
      */
-    private ElementChip getChipById(int id) {
-        for (ElementChip elementChip : currentElements) {
-            if (elementChip.getId() == id) return elementChip;
-        }
-        return null;
+    private void recycleChipView(TextView view) {
+        view.setTag(null);
+        view.setAlpha(1f);
+        if (chipViewPool.size() < MAX_POOLED_CHIP_VIEWS) chipViewPool.push(view);
     }
 
     /**
-     * Updates the displayed element chips by calculating differences between
-     * the current and new lists.
+     * Finds the chip the player sees on top at the given point of the playground
      *
-     * @param newElements the updated list of element chips
+     * @param x     x coordinate inside of the playground
+     * @param y     y coordinate inside of the playground
+     * @return      the chip or null if there is no chip at the point
      */
-    private void updateElements(List<ElementChip> newElements) {
-        if (BuildConfig.DEBUG) {
-            Log.d(TAG, "New elements size: " + newElements.size()
-                    + " Old elements size: " + currentElements.size());
-            Log.v(TAG, "UpdateElements\n new=" + newElements + "\nold=" + currentElements);
-        }
-
-        DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(
-                new ElementDiffCallback(currentElements, newElements)
-        );
-
-        GenericListUpdateCallback<ElementChip> callback =
-                new GenericListUpdateCallback<>(currentElements, newElements, this);
-        diffResult.dispatchUpdatesTo(callback);
-        callback.finishInserts();
+    private ElementChip findChipAt(float x, float y) {
+        int id = chipGrid.findAt(x, y);
+        return id == SpatialHashGrid.NO_ID ? null : getChipById(id);
     }
 
     /**
-     * Find free space on the playground
-     *
-     * @return x and y coordinates of found free space
-     */
-    private float[] getFreeSpace(){
-        TextView exampleElement = getAnyElement();
-
-        float[] coordinates = new float[2];
-        coordinates[0] = playground.getWidth() / 2f;
-        coordinates[1] = playground.getHeight() / 2f;
-
-        if(exampleElement != null){
-            int innerRectLeftX =  (int) (playground.getWidth() * 0.1);
-            int innerRectRightX = (int) (playground.getWidth() * 0.6);
-
-            Rect test = new Rect();
-            exampleElement.getHitRect(test);
-
-            Random rand = new Random();
-
-            // If playground has less than 50 elements, try to find a free space
-            // otherwise place randomly disregarding overlapping
-            final int ATTEMPTS = playground.getChildCount() < 50 ? playground.getChildCount() : 1;
-
-            for(int attempt = 0; attempt < ATTEMPTS; attempt++){
-                coordinates[0] = innerRectLeftX + (rand.nextFloat() * innerRectRightX);
-                coordinates[1] = (rand.nextFloat() * (float) (playground.getHeight() * 0.75));
-
-                test.offsetTo((int) coordinates[0], (int) coordinates[1]);
-
-                if(!isOverlapping(test)) return coordinates;
-            }
-        }
-        return coordinates;
-    }
-
-    /**
-     * Checks if the given rectangle overlaps with any {@link TextView} currently
-     * in the playground.
+     * Gets an ElementChip by a specified id
      *
-     * @param test  the rectangle to test for overlaps
-     * @return      {@code true} if it intersects with another element, {@code false} if not
+     * @param id    The id of the ElementChip to get
+     * @return      An ElementChip when one has been found or null
      */
-    private boolean isOverlapping(Rect test) {
-        for(int i = 0; i < playground.getChildCount(); i++){
-            View other = playground.getChildAt(i);
-            if (!(other instanceof TextView)) continue;
-            Rect otherRect = new Rect();
-            other.getHitRect(otherRect);
-
-            if(Rect.intersects(test, otherRect)) return true;
-        }
-        return false;
+    private ElementChip getChipById(int id) {
+        return chips.get(id);
     }
 
     /**
-     * Returns the first {@link TextView} found in the playground, or {@code null}
-     * if no element exists.
+     * Find the free space closest to the center of the playground above the buttons
      *
-     * @return a {@link TextView} from the playground, or {@code null} if none
+     * @param width     width of the chip to place
+     * @param height    height of the chip to place
+     * @return          x and y coordinates of found free space, the array is reused by the
+     *                  next call
      */
-    private TextView getAnyElement(){
-        for(int i = 0; i < playground.getChildCount(); i++){
-            if(playground.getChildAt(i) instanceof TextView){
-                return (TextView) playground.getChildAt(i);
-            }
+    private float[] getFreeSpace(float width, float height) {
+        // Keep the row of the floating action buttons free
+        float areaWidth = playground.getWidth();
+        float areaHeight = Math.min(clearElementsButton.getTop(), showElementListButton.getTop());
+        if (areaHeight <= 0) areaHeight = playground.getHeight();
+
+        if (!placementEngine.findFreePosition(areaWidth, areaHeight, width, height,
+                areaWidth / 2f, areaHeight / 2f, freePosition)) {
+            if (BuildConfig.DEBUG) Log.d(TAG, "No free space left on the playground");
         }
-        return null;
+        return freePosition;
     }
 
     /**
@@ -403,13 +564,10 @@ public class PlaygroundFragment extends Fragment implements GenericListChangeHan
      * @return  boolean whether view has been deleted or not
      */
     private boolean overlapsWithDeleteButton(View v){
-        Rect draggedRect = new Rect();
         v.getHitRect(draggedRect);
+        clearElementsButton.getHitRect(deleteButtonRect);
 
-        Rect deleteButton = new Rect();
-        clearElementsButton.getHitRect(deleteButton);
-
-        if(Rect.intersects(draggedRect, deleteButton)){
+        if(Rect.intersects(draggedRect, deleteButtonRect)){
             viewModel.removeElementFromPlayground(getChipById((int) v.getTag()));
             return true;
         }
@@ -417,99 +575,28 @@ public class PlaygroundFragment extends Fragment implements GenericListChangeHan
     }
 
     /**
-     * Checks if two elements overlap and returns the other overlapping View
+     * Checks if two elements overlap and returns the other overlapping View.
+     * If the dragged element overlaps with multiple elements, the one with the largest
+     * overlap is returned.
      *
      * @param draggedView   View to compare with
      * @return              Other View if overlap was found
      */
     private View checkOverlap(TextView draggedView) {
-        Rect draggedRect = new Rect();
-        draggedView.getHitRect(draggedRect);
-
-        ViewGroup parent = (ViewGroup) draggedView.getParent();
-        for (int i = 0; i < parent.getChildCount(); i++) {
-            View other = parent.getChildAt(i);
-
-            if (other == draggedView) continue;
-
-            Rect otherRect = new Rect();
-            other.getHitRect(otherRect);
-
-            if (Rect.intersects(draggedRect, otherRect) && other instanceof TextView) {
-                // Overlap detected
-                if(BuildConfig.DEBUG) {
-                    Log.d(TAG, "Dragged element (" + draggedView.getText() +
-                            ") overlaps with: " + ((TextView) other).getText());
-                }
-                return other;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Checks whether all TextViews corresponding to the ElementChips on the playground are
-     * within the bounds of the playground and therefore visible for the player.
-     */
-    private void checkForOutOfBoundsElements() {
-        // Check if any ElementChips are out of bounds,
-        // if so give them a new random position within the bounds
-        View root = getView();
-        if (root != null) {
-            int width = root.getWidth();
-            int height = root.getHeight();
-            if (BuildConfig.DEBUG) Log.d(TAG, "Width: " + width + " / Height: " + height);
-
-            for (ElementChip elementChip : currentElements) {
-                TextView elementView = getTextViewFromElementChip(elementChip);
-                if (elementView != null) {
-                    if (elementView.getX() + elementView.getWidth() > root.getWidth()
-                            || elementView.getY() + elementView.getHeight() > root.getHeight())
-                    {
-                        if (BuildConfig.DEBUG) Log.d(TAG, "ElementChip "
-                                + elementChip.getElement().name + " is out of bounds!");
-
-                        float[] newCords = getFreeSpace();
-                        elementChip.setX(newCords[0]);
-                        elementChip.setY(newCords[1]);
-                        elementView.setX(newCords[0]);
-                        elementView.setY(newCords[1]);
-
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * This Method will return the corresponding TextView for the given ElementChip.
-     * It does so by comparing their saved coordinates, meaning that consistence updating of the
-     * ElementChip data is mandatory in order for this method to work.
-     *
-     * @param elementChip The {@link ElementChip} from which the TextView shall be returned.
-     */
-    private TextView getTextViewFromElementChip(ElementChip elementChip) {
-        View root = getView();
-        if (root instanceof ViewGroup) {
-            ViewGroup rootViewGroup = (ViewGroup) root;
-            for (int i = 0; i < rootViewGroup.getChildCount(); i++) {
-                View child = rootViewGroup.getChildAt(i);
-                if (child instanceof TextView
-                        && elementChip.getX() == child.getX()
-                        && elementChip.getY() == child.getY()) {
-                    if (BuildConfig.DEBUG) Log.d(TAG, "Found Textview for ElementChip: "
-                            + elementChip);
-
-                    return (TextView) child;
-                }
-            }
-            Log.w(TAG, "Could not find matching TextView for ElementChip: " + elementChip);
-            return null;
-        } else {
-            Log.w(TAG, "Could not search for matching TextView for ElementChip." +
-                    "Reason: rootView is not a ViewGroup!");
-            return null;
+        float x = draggedView.getX();
+        float y = draggedView.getY();
+        int otherId = chipGrid.findOverlap(x, y,
+                x + draggedView.getWidth(), y + draggedView.getHeight(),
+                (int) draggedView.getTag());
+        if (otherId == SpatialHashGrid.NO_ID) return null;
+
+        View other = chips.getView(otherId);
+        // Overlap detected
+        if(BuildConfig.DEBUG && other instanceof TextView) {
+            Log.d(TAG, "Dragged element (" + draggedView.getText() +
+                    ") overlaps with: " + ((TextView) other).getText());
         }
+        return other;
     }
 
     /**
@@ -527,76 +614,71 @@ public class PlaygroundFragment extends Fragment implements GenericListChangeHan
         // that is already part of an ongoing combination.
         if (chip1.isAnimated() || chip2.isAnimated()) return;
 
-        AnimatorSet set = new AnimatorSet();
-        set.playTogether(animateView(view1, chip1), animateView(view2, chip2));
-        set.start();
+        animateView(view1, chip1);
+        animateView(view2, chip2);
 
         viewModel.combineElements(chip1, chip2);
         viewModel.increaseTurnCounter();
     }
 
     /**
-     * Creates and starts a fade animation for the given element view,
-     * marks the chip as animated, disables its touch input, and stores
-     * the animation for tracking.
+     * Starts the pulse of the given element view and marks the chip as animated,
+     * which makes the {@link ChipTouchHandler} ignore it. The pulse stops when the chip is
+     * removed by the combination or the combination is cancelled.
      *
      * @param view  the view to animate
      * @param chip  the {@link ElementChip} being animated
-     * @return      the created {@link ObjectAnimator} for the view
      */
-    @SuppressLint("ClickableViewAccessibility")
-    private ObjectAnimator animateView(View view, ElementChip chip)
+    private void animateView(View view, ElementChip chip)
     {
         chip.setAnimated(true);
-        // while combining disable touch listener
-        view.setOnTouchListener((dummy, e) -> false);
-        ObjectAnimator fade = ObjectAnimator.ofFloat(view, "alpha", 1f, 0.2f);
-        fade.setDuration(1000);
-        fade.setRepeatCount(ObjectAnimator.INFINITE);
-        fade.setRepeatMode(ObjectAnimator.REVERSE);
-        animations.put(chip.getId(), fade);
-        return fade;
+        pulseDriver.start(chip.getId(), view);
     }
 
     /**
-     * Handles touch interactions for an {@link ElementChip} view, including
+     * Handles touch interactions for all {@link ElementChip} views, including
      * dragging within the playground bounds, detecting double-taps to duplicate
      * elements, and triggering element combinations on overlap.
+     * <p>
+     * Attached once to the playground, a touch is routed to the chip on top at the touched
+     * point. Touches which don't hit a chip are left to the playground.
      */
-    private class TouchListener implements View.OnTouchListener {
+    private class ChipTouchHandler implements View.OnTouchListener {
         float dX, dY;
         boolean isDragging;
 
-        GestureDetector gestureDetector;
+        final GestureDetector gestureDetector;
 
-        ElementChip chip;
+        // View and chip of the current touch, null if no chip is touched
+        TextView touchedView;
+        ElementChip touchedChip;
 
-        public TouchListener(ElementChip chip) {
-            this.gestureDetector = new GestureDetector(getContext(),
+        ChipTouchHandler() {
+            this.gestureDetector = new GestureDetector(requireContext(),
                     new GestureDetector.SimpleOnGestureListener() {
                 @Override
                 public boolean onDoubleTap(@NonNull MotionEvent e) {
+                    ElementChip chip = findChipAt(e.getX(), e.getY());
+                    View view = chip == null ? null : chips.getView(chip.getId());
+                    if (view == null) return false;
                     // Duplicate the view here
-                    if(BuildConfig.DEBUG) Log.d(TAG, "Double Tap on " +
-                            chip.getElement() + " recognized");
-                    final int OFFSET = 20;
-                    viewModel.addElementToPlayground(new ElementChip(chip.getElement(),
-                            chip.getX()+OFFSET, chip.getY()+OFFSET));
+                    chipRect.set(view.getX(), view.getY(),
+                            view.getX() + view.getWidth(), view.getY() + view.getHeight());
+                    duplicateChip(chip, chipRect);
                     return true;
                 }
             });
-            this.chip = chip;
         }
 
         /**
-         * Handles touch events for the element view, including:
+         * Handles touch events on the playground, including:
          * <ul>
-         *     <li>Drag and drop within the playground bounds</li>
-         *     <li>Double-tap to duplicate the element</li>
+         *     <li>Drag and drop of the touched element within the playground bounds</li>
+         *     <li>Double-tap to duplicate the touched element</li>
          *     <li>Triggering combination with overlapping elements on release</li>
          * </ul>
          *
-         * @param v     the view being touched
+         * @param v     the playground
          * @param event the motion event
          * @return      {@code true} if the event was handled, {@code false} otherwise
          */
@@ -604,37 +686,58 @@ public class PlaygroundFragment extends Fragment implements GenericListChangeHan
         @Override
         public boolean onTouch(View v, MotionEvent event) {
 
-            if(gestureDetector.onTouchEvent(event)) return true;
+            if(gestureDetector.onTouchEvent(event)) {
+                touchedView = null;
+                touchedChip = null;
+                return true;
+            }
 
-            switch (event.getAction()) {
+            switch (event.getActionMasked()) {
                 case MotionEvent.ACTION_DOWN:
+                    ElementChip chip = findChipAt(event.getX(), event.getY());
+                    // An element that is part of an ongoing combination can't be moved
+                    if (chip == null || chip.isAnimated()) return false;
+                    touchedView = chips.getView(chip.getId());
+                    if (touchedView == null) return false;
+                    touchedChip = chip;
+
                     // when an item is picked up
                     isDragging = false;
-                    dX = v.getX() - event.getRawX();
-                    dY = v.getY() - event.getRawY();
-                    v.bringToFront();
+                    dX = touchedView.getX() - event.getX();
+                    dY = touchedView.getY() - event.getY();
+                    touchedView.bringToFront();
+                    // Keep the hit tests in line with the drawing order
+                    updateChipBounds(touchedView);
                     whenItemIsPickedUp();
                     return true;
 
                 case MotionEvent.ACTION_MOVE:
+                    if (touchedView == null) return false;
                     isDragging = true;
                     // limit possible position of element to playground bounds
-                    if(event.getRawX() + dX < playground.getWidth() - v.getWidth() &&
-                            event.getRawX() + dX > 0) v.setX(event.getRawX() + dX);
-                    if(event.getRawY() + dY < playground.getHeight() - v.getHeight() &&
-                            event.getRawY() + dY > 0) v.setY(event.getRawY() + dY);
+                    if(event.getX() + dX < playground.getWidth() - touchedView.getWidth() &&
+                            event.getX() + dX > 0) touchedView.setX(event.getX() + dX);
+                    if(event.getY() + dY < playground.getHeight() - touchedView.getHeight() &&
+                            event.getY() + dY > 0) touchedView.setY(event.getY() + dY);
                     return true;
 
                 case MotionEvent.ACTION_UP:
+                case MotionEvent.ACTION_CANCEL:
+                    if (touchedView == null) return false;
+                    TextView view = touchedView;
+                    touchedView = null;
                     whenItemIsDropped();
                     if(!isDragging){
                         return false;
                     }
-                    viewModel.updateElementPositonOnPlayground(chip, v.getX(), v.getY());
-                    if (!overlapsWithDeleteButton(v)){
-                        View other = checkOverlap((TextView) v);
+                    viewModel.updateElementPositonOnPlayground(touchedChip,
+                            coordinates.toNormalizedX(view.getX(), view.getWidth()),
+                            coordinates.toNormalizedY(view.getY(), view.getHeight()));
+                    updateChipBounds(view);
+                    if (!overlapsWithDeleteButton(view)){
+                        View other = checkOverlap(view);
                         if(other != null){
-                            combine(v, other);
+                            combine(view, other);
                         }
                     }
                     return true;
@@ -644,4 +747,56 @@ public class PlaygroundFragment extends Fragment implements GenericListChangeHan
             }
         }
     }
+
+    /**
+     * Handles the gestures on chips drawn by the {@link #canvasView}, the same way the
+     * {@link ChipTouchHandler} handles them for chip views.
+     */
+    private class CanvasChipListener implements PlaygroundCanvasView.ChipListener {
+
+        @Override
+        public void onChipPickedUp(ElementChip chip) {
+            whenItemIsPickedUp();
+        }
+
+        @Override
+        public void onChipDropped(ElementChip chip, float x, float y, boolean isMoved) {
+            whenItemIsDropped();
+            if (!isMoved) return;
+            canvasView.measureChip(chip.getElement(), chipSize);
+            viewModel.updateElementPositonOnPlayground(chip,
+                    coordinates.toNormalizedX(x, chipSize[0]),
+                    coordinates.toNormalizedY(y, chipSize[1]));
+            canvasView.updateChip(chip);
+
+            canvasView.getChipBounds(chip, chipRect);
+            clearElementsButton.getHitRect(deleteButtonRect);
+            if (chipRect.intersects(deleteButtonRect.left, deleteButtonRect.top,
+                    deleteButtonRect.right, deleteButtonRect.bottom)) {
+                viewModel.removeElementFromPlayground(chip);
+                return;
+            }
+
+            int otherId = chipGrid.findOverlap(chipRect.left, chipRect.top,
+                    chipRect.right, chipRect.bottom, chip.getId());
+            if (otherId == SpatialHashGrid.NO_ID) return;
+            ElementChip other = getChipById(otherId);
+            if (other == null || chip.isAnimated() || other.isAnimated()) return;
+            if (BuildConfig.DEBUG) Log.d(TAG, "Dragged element (" + chip.getElement() +
+                    ") overlaps with: " + other.getElement());
+
+            // The canvas pulses animated chips and ignores touches on them
+            chip.setAnimated(true);
+            other.setAnimated(true);
+            canvasView.invalidate();
+            viewModel.combineElements(chip, other);
+            viewModel.increaseTurnCounter();
+        }
+
+        @Override
+        public void onChipDoubleTap(ElementChip chip) {
+            canvasView.getChipBounds(chip, chipRect);
+            duplicateChip(chip, chipRect);
+        }
+    }
 }
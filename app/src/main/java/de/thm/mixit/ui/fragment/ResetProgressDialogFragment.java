@@ -22,10 +22,10 @@ import com.google.android.material.textfield.TextInputEditText;
 import com.google.android.material.textfield.TextInputLayout;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import de.thm.mixit.R;
 import de.thm.mixit.data.repository.AchievementRepository;
-import de.thm.mixit.data.repository.CombinationRepository;
 import de.thm.mixit.data.repository.ElementRepository;
 import de.thm.mixit.data.repository.GameStateRepository;
 import de.thm.mixit.data.repository.StatisticRepository;
@@ -47,8 +47,6 @@ public class ResetProgressDialogFragment extends DialogFragment {
     ElementRepository arcadeElementRepository;
     StatisticRepository statisticRepository;
     AchievementRepository achievementRepository;
-    CombinationRepository combinationRepository;
-    CombinationRepository arcadeCombinationRepository;
 
 
     /**
@@ -69,10 +67,8 @@ public class ResetProgressDialogFragment extends DialogFragment {
 
         gameStateRepository = GameStateRepository.create(context,false);
         elementRepository = ElementRepository.create(context, false);
-        combinationRepository = CombinationRepository.create(context, false);
         arcadeGameStateRepository = GameStateRepository.create(context,true);
         arcadeElementRepository = ElementRepository.create(context, true);
-        arcadeCombinationRepository = CombinationRepository.create(context, true);
 
 
 
@@ -113,23 +109,30 @@ public class ResetProgressDialogFragment extends DialogFragment {
 
         confirm.setOnClickListener((View _view) -> {
             if (Objects.requireNonNull(input.getText()).toString().equals(REQUIRED)) {
-                // Reset free play
-                elementRepository.reset();
-                gameStateRepository.deleteSavedGameState();
-                combinationRepository.deleteAll();
+                confirm.setEnabled(false);
 
-                // Reset arcade
-                arcadeElementRepository.reset();
-                arcadeGameStateRepository.deleteSavedGameState();
-                arcadeCombinationRepository.deleteAll();
+                // Reset free play and arcade, also deletes their combinations
+                CompletableFuture<Void> reset = CompletableFuture.allOf(
+                        elementRepository.reset(),
+                        gameStateRepository.deleteSavedGameState(),
+                        arcadeElementRepository.reset(),
+                        arcadeGameStateRepository.deleteSavedGameState());
 
                 // Reset statistics and achievements
                 statisticRepository.deleteSavedStatistic();
                 achievementRepository.deleteSavedAchievements();
 
-                dismiss();
-
-                Toast.makeText(context, R.string.reset_success, Toast.LENGTH_SHORT).show();
+                // Only confirm the reset once a new game can not see the old progress
+                Context appContext = context.getApplicationContext();
+                reset.whenCompleteAsync((v, e) -> {
+                    if (isAdded()) dismissAllowingStateLoss();
+                    if (e != null) {
+                        Log.e(TAG, "Couldn't reset the progress", e);
+                        return;
+                    }
+                    Toast.makeText(appContext, R.string.reset_success, Toast.LENGTH_SHORT)
+                            .show();
+                }, ContextCompat.getMainExecutor(appContext));
 
             } else {
                 // Set the Error highlighting based on the current theme
@@ -0,0 +1,101 @@
+package de.thm.mixit.ui.view;
+
+import android.view.Choreographer;
+import android.view.View;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Pulses the views of all chips which are waiting for the result of a combination.
+ * <p>
+ * One frame callback computes the alpha once per frame and applies it to all pending views,
+ * so all chips pulse in sync and no animator is created per chip. The callback is only
+ * registered while at least one chip is pending: it starts with the first call to
+ * {@link #start} and stops as soon as the last chip was stopped.
+ */
+public class ChipPulseDriver implements Choreographer.FrameCallback {
+
+    /**
+     * Duration of one fade from full alpha to {@link #MIN_ALPHA} or back
+     */
+    public static final long DURATION_MS = 1000;
+    public static final float MIN_ALPHA = 0.2f;
+
+    private final Map<Integer, View> views = new HashMap<>();
+    private final Choreographer choreographer = Choreographer.getInstance();
+    private long startTimeNanos = -1;
+
+    /**
+     * Computes the alpha of a pulse at the given time
+     * @param elapsedMs time since the pulse started
+     * @return alpha between {@link #MIN_ALPHA} and 1
+     */
+    public static float alphaAt(long elapsedMs) {
+        float phase = (elapsedMs % (2 * DURATION_MS)) / (float) DURATION_MS;
+        float fraction = phase <= 1 ? phase : 2 - phase;
+        return 1 - fraction * (1 - MIN_ALPHA);
+    }
+
+    /**
+     * Starts pulsing the view of a chip
+     * @param chipId id of the chip
+     * @param view view of the chip
+     */
+    public void start(int chipId, View view) {
+        views.put(chipId, view);
+        if (startTimeNanos < 0) {
+            startTimeNanos = 0;
+            choreographer.postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Stops pulsing the view of a chip and restores its alpha
+     * @param chipId id of the chip, ignored if the chip is not pulsing
+     */
+    public void stop(int chipId) {
+        View view = views.remove(chipId);
+        if (view != null) view.setAlpha(1f);
+        if (views.isEmpty()) stopFrames();
+    }
+
+    /**
+     * Stops pulsing all chips matching the predicate
+     * @param predicate tests the id of a pulsing chip
+     */
+    public void stopWhere(IntPredicate predicate) {
+        Iterator<Map.Entry<Integer, View>> iterator = views.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, View> entry = iterator.next();
+            if (!predicate.test(entry.getKey())) continue;
+            entry.getValue().setAlpha(1f);
+            iterator.remove();
+        }
+        if (views.isEmpty()) stopFrames();
+    }
+
+    /**
+     * Stops pulsing all chips
+     */
+    public void stopAll() {
+        stopWhere(id -> true);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        // The first frame defines the start, so every pulse starts at full alpha
+        if (startTimeNanos == 0) startTimeNanos = frameTimeNanos;
+        float alpha = alphaAt((frameTimeNanos - startTimeNanos) / 1_000_000);
+        for (View view : views.values()) view.setAlpha(alpha);
+        choreographer.postFrameCallback(this);
+    }
+
+    private void stopFrames() {
+        if (startTimeNanos < 0) return;
+        choreographer.removeFrameCallback(this);
+        startTimeNanos = -1;
+    }
+}
@@ -0,0 +1,330 @@
+package de.thm.mixit.ui.view;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.util.LruCache;
+import android.util.SparseArray;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.animation.AnimationUtils;
+
+import androidx.annotation.NonNull;
+
+import com.google.android.material.color.MaterialColors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.thm.mixit.R;
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.model.ElementChip;
+import de.thm.mixit.domain.logic.PlaygroundCoordinates;
+import de.thm.mixit.domain.logic.SpatialHashGrid;
+
+/**
+ * Draws all element chips of the playground onto one canvas instead of using one view per chip.
+ * <p>
+ * The text of every element is laid out once and cached, a frame only draws a rounded rectangle
+ * and the cached layout per visible chip. Touch events are hit-tested against the chips by the
+ * view itself and dispatched to a {@link ChipListener}. Touches which don't start on a chip are
+ * not consumed, so they reach the playground behind the view.
+ * <p>
+ * Chips are drawn in the order they were added, a picked up chip is moved to the top.
+ * The normalized positions of the chips are mapped to pixels by {@link PlaygroundCoordinates}.
+ * Chips which are part of an ongoing combination pulse until they are not animated anymore.
+ */
+public class PlaygroundCanvasView extends View {
+
+    private static final int LAYOUT_CACHE_SIZE = 512;
+    /**
+     * Receives the gestures performed on chips
+     */
+    public interface ChipListener {
+        /**
+         * A chip was touched
+         * @param chip the touched chip
+         */
+        void onChipPickedUp(ElementChip chip);
+
+        /**
+         * A touched chip was released
+         * @param chip the released chip
+         * @param x new x coordinate of the chip in pixels
+         * @param y new y coordinate of the chip in pixels
+         * @param isMoved whether the chip was dragged before it was released
+         */
+        void onChipDropped(ElementChip chip, float x, float y, boolean isMoved);
+
+        /**
+         * A chip was double tapped
+         * @param chip the tapped chip
+         */
+        void onChipDoubleTap(ElementChip chip);
+    }
+
+    private final List<ElementChip> chips = new ArrayList<>();
+    private final SparseArray<ElementChip> chipsById = new SparseArray<>();
+    // Keyed by instance, elements are interned, so no text has to be built to look one up
+    private final LruCache<Element, StaticLayout> layouts = new LruCache<>(LAYOUT_CACHE_SIZE);
+    private final TextPaint textPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint fillPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint strokePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final RectF rect = new RectF();
+    private final float paddingHorizontal;
+    private final float paddingVertical;
+    private final float cornerRadius;
+    private final GestureDetector gestureDetector;
+
+    private SpatialHashGrid chipGrid;
+    private PlaygroundCoordinates coordinates = new PlaygroundCoordinates();
+    private ChipListener listener;
+
+    // State of the current drag
+    private ElementChip draggedChip;
+    private float dragX, dragY, dX, dY;
+    private boolean isDragging;
+
+    public PlaygroundCanvasView(Context context) {
+        super(context);
+        float density = getResources().getDisplayMetrics().density;
+        paddingHorizontal = 10 * density;
+        paddingVertical = 6 * density;
+        cornerRadius = 10 * density;
+
+        textPaint.setTextSize(getResources().getDimension(R.dimen.text_size_medium));
+        textPaint.setColor(MaterialColors.getColor(context,
+                com.google.android.material.R.attr.colorOnSecondaryContainer, Color.BLACK));
+        fillPaint.setStyle(Paint.Style.FILL);
+        fillPaint.setColor(MaterialColors.getColor(context,
+                com.google.android.material.R.attr.colorSecondaryContainer, Color.LTGRAY));
+        strokePaint.setStyle(Paint.Style.STROKE);
+        strokePaint.setStrokeWidth(density);
+        strokePaint.setColor(textPaint.getColor());
+
+        gestureDetector = new GestureDetector(context,
+                new GestureDetector.SimpleOnGestureListener() {
+            @Override
+            public boolean onDoubleTap(@NonNull MotionEvent e) {
+                ElementChip chip = findChipAt(e.getX(), e.getY());
+                if (chip == null || listener == null) return false;
+                listener.onChipDoubleTap(chip);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Set the grid which is kept up to date with the bounds of all chips
+     * @param chipGrid grid used for hit tests of the playground
+     */
+    public void setChipGrid(SpatialHashGrid chipGrid) {
+        this.chipGrid = chipGrid;
+    }
+
+    /**
+     * Set the coordinates used to map the positions of the chips to pixels
+     * @param coordinates coordinates of the playground
+     */
+    public void setCoordinates(PlaygroundCoordinates coordinates) {
+        this.coordinates = coordinates;
+    }
+
+    public void setChipListener(ChipListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Measures the size a chip of the element will have
+     * @param element element of the chip
+     * @param out receives the width and the height, at least of length 2
+     */
+    public void measureChip(Element element, float[] out) {
+        StaticLayout layout = layoutOf(element);
+        out[0] = layout.getWidth() + 2 * paddingHorizontal;
+        out[1] = layout.getHeight() + 2 * paddingVertical;
+    }
+
+    /**
+     * Add a chip on top of all other chips
+     * @param chip chip to add
+     */
+    public void addChip(ElementChip chip) {
+        chips.add(chip);
+        chipsById.put(chip.getId(), chip);
+        updateChip(chip);
+    }
+
+    /**
+     * Remove a chip, does nothing if the chip is unknown
+     * @param chipId id of the chip to remove
+     */
+    public void removeChip(int chipId) {
+        for (int i = chips.size() - 1; i >= 0; i--) {
+            if (chips.get(i).getId() == chipId) {
+                if (chips.get(i) == draggedChip) draggedChip = null;
+                chips.remove(i);
+                break;
+            }
+        }
+        chipsById.remove(chipId);
+        if (chipGrid != null) chipGrid.remove(chipId);
+        invalidate();
+    }
+
+    /**
+     * Redraw a chip after its position or animation state changed
+     * @param chip changed chip
+     */
+    public void updateChip(ElementChip chip) {
+        if (chipGrid != null) {
+            getChipBounds(chip, rect);
+            chipGrid.put(chip.getId(), rect.left, rect.top, rect.right, rect.bottom);
+        }
+        invalidate();
+    }
+
+    /**
+     * Get the bounds of a chip at its current position in pixels
+     * @param chip the chip
+     * @param out receives the bounds
+     */
+    public void getChipBounds(ElementChip chip, RectF out) {
+        StaticLayout layout = layoutOf(chip.getElement());
+        float width = layout.getWidth() + 2 * paddingHorizontal;
+        float height = layout.getHeight() + 2 * paddingVertical;
+        float x = chip == draggedChip ? dragX : coordinates.toPixelX(chip.getX(), width);
+        float y = chip == draggedChip ? dragY : coordinates.toPixelY(chip.getY(), height);
+        out.set(x, y, x + width, y + height);
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+        long now = AnimationUtils.currentAnimationTimeMillis();
+        boolean isPulsing = false;
+        float inset = strokePaint.getStrokeWidth() / 2;
+
+        for (int i = 0; i < chips.size(); i++) {
+            ElementChip chip = chips.get(i);
+            getChipBounds(chip, rect);
+            // Skip chips which are not visible
+            if (rect.left > getWidth() || rect.top > getHeight()
+                    || rect.right < 0 || rect.bottom < 0) continue;
+
+            int alpha = 255;
+            if (chip.isAnimated()) {
+                alpha = (int) (255 * ChipPulseDriver.alphaAt(now));
+                isPulsing = true;
+            }
+            fillPaint.setAlpha(alpha);
+            strokePaint.setAlpha(alpha);
+            textPaint.setAlpha(alpha);
+
+            float left = rect.left;
+            float top = rect.top;
+            rect.inset(inset, inset);
+            canvas.drawRoundRect(rect, cornerRadius, cornerRadius, fillPaint);
+            canvas.drawRoundRect(rect, cornerRadius, cornerRadius, strokePaint);
+
+            canvas.save();
+            canvas.translate(left + paddingHorizontal, top + paddingVertical);
+            layoutOf(chip.getElement()).draw(canvas);
+            canvas.restore();
+        }
+
+        if (isPulsing) postInvalidateOnAnimation();
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        if (gestureDetector.onTouchEvent(event)) {
+            // A double tap is not the start of a drag
+            draggedChip = null;
+            return true;
+        }
+
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN: {
+                ElementChip chip = findChipAt(event.getX(), event.getY());
+                // Chips of an ongoing combination can't be moved
+                if (chip == null || chip.isAnimated()) return false;
+                getChipBounds(chip, rect);
+                draggedChip = chip;
+                dragX = rect.left;
+                dragY = rect.top;
+                dX = dragX - event.getX();
+                dY = dragY - event.getY();
+                isDragging = false;
+                chips.remove(chip);
+                chips.add(chip);
+                // The chip is on top now, also for hit tests
+                if (chipGrid != null) {
+                    chipGrid.put(chip.getId(), rect.left, rect.top, rect.right, rect.bottom);
+                }
+                if (listener != null) listener.onChipPickedUp(chip);
+                invalidate();
+                return true;
+            }
+            case MotionEvent.ACTION_MOVE: {
+                if (draggedChip == null) return false;
+                isDragging = true;
+                getChipBounds(draggedChip, rect);
+                // Limit the position of the chip to the bounds of the view
+                dragX = Math.max(0, Math.min(event.getX() + dX, getWidth() - rect.width()));
+                dragY = Math.max(0, Math.min(event.getY() + dY, getHeight() - rect.height()));
+                invalidate();
+                return true;
+            }
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL: {
+                if (draggedChip == null) return false;
+                ElementChip chip = draggedChip;
+                draggedChip = null;
+                if (listener != null) listener.onChipDropped(chip, dragX, dragY, isDragging);
+                invalidate();
+                return true;
+            }
+            default:
+                return draggedChip != null;
+        }
+    }
+
+    /**
+     * Finds the topmost chip at a point, using the grid if there is one
+     * @param x x coordinate of the point
+     * @param y y coordinate of the point
+     * @return the chip or {@code null} if there is none
+     */
+    private ElementChip findChipAt(float x, float y) {
+        if (chipGrid != null) {
+            int id = chipGrid.findAt(x, y);
+            return id == SpatialHashGrid.NO_ID ? null : chipsById.get(id);
+        }
+        for (int i = chips.size() - 1; i >= 0; i--) {
+            ElementChip chip = chips.get(i);
+            getChipBounds(chip, rect);
+            if (rect.contains(x, y)) return chip;
+        }
+        return null;
+    }
+
+    private StaticLayout layoutOf(Element element) {
+        StaticLayout layout = layouts.get(element);
+        if (layout == null) {
+            String text = element.toString();
+            int width = (int) Math.ceil(Layout.getDesiredWidth(text, textPaint));
+            layout = StaticLayout.Builder.obtain(text, 0, text.length(), textPaint, width)
+                    .setIncludePad(true)
+                    .build();
+            layouts.put(element, layout);
+        }
+        return layout;
+    }
+}
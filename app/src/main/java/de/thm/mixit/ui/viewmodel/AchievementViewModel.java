@@ -8,10 +8,10 @@ import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 import androidx.lifecycle.ViewModelProvider;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 
 import de.thm.mixit.R;
 import de.thm.mixit.data.entity.Achievement;
@@ -43,18 +43,12 @@ public class AchievementViewModel extends ViewModel {
     private AchievementViewModel(AchievementRepository achievementRepository,
                                  StatisticRepository statisticRepository) {
         this.achievementRepository = achievementRepository;
-        this.achievements = new MutableLiveData<>();
+        this.achievements = new MutableLiveData<>(new ArrayList<>());
         this.statisticRepository = statisticRepository;
+        this.sizeOfUnlockedAchievement.setValue(0);
+        this.sizeOfAllAchievements.setValue(0);
 
         loadAchievements();
-        updateProgress();
-
-        int counter = 0;
-        for (Achievement a : Objects.requireNonNull(achievements.getValue())) {
-            if (a.isUnlocked()) counter++;
-        }
-        this.sizeOfUnlockedAchievement.setValue(counter);
-        this.sizeOfAllAchievements.setValue(achievements.getValue().size());
     }
 
     /**
@@ -85,36 +79,50 @@ public class AchievementViewModel extends ViewModel {
      * Saves the current achievements on the device.
      */
     public void saveAchievements() {
-        Log.d(TAG, "Saving achievements: " +
-                Objects.requireNonNull(achievements.getValue()));
-        achievementRepository.saveAchievements(achievements.getValue());
+        List<Achievement> achievementsList = achievements.getValue();
+        // Nothing loaded yet, don't overwrite the saved achievements
+        if (achievementsList == null || achievementsList.isEmpty()) return;
+        Log.d(TAG, "Saving achievements: " + achievementsList);
+        achievementRepository.saveAchievements(achievementsList);
     }
 
     /**
      * Tries to load all achievements from the AchievementRepository.
      * When no achievements could be loaded, initialise them.
+     * Afterwards the progress is updated and the result is posted to the ui.
      */
     private void loadAchievements() {
-        // Sort the list so unlocked achievements are always last.
-        List<Achievement> achievementsList = achievementRepository.loadAchievements();
-        achievements.setValue(achievementsList);
-
-        Log.d(TAG, "Loaded achievements: " +
-                Objects.requireNonNull(achievements.getValue()));
-
-        // No achievements saved yet. Initialise them the first time
-        if (achievementsList.isEmpty()) {
-            initAchievements();
-        }
+        achievementRepository.loadAchievements(loaded -> {
+            Log.d(TAG, "Loaded achievements: " + loaded);
+
+            // No achievements saved yet. Initialise them the first time
+            List<Achievement> achievementsList = loaded.isEmpty()
+                    ? initAchievements() : new ArrayList<>(loaded);
+
+            statisticRepository.loadStatistic(statistic -> {
+                updateProgress(achievementsList, statistic);
+                // Sort the list so unlocked achievements are always last.
+                Collections.sort(achievementsList);
+
+                int counter = 0;
+                for (Achievement a : achievementsList) {
+                    if (a.isUnlocked()) counter++;
+                }
+                achievements.postValue(achievementsList);
+                sizeOfUnlockedAchievement.postValue(counter);
+                sizeOfAllAchievements.postValue(achievementsList.size());
+            });
+        });
     }
 
     /**
      * Update the progress of each achievement based on the saved statistics.
+     * @param achievementsList achievements to update
+     * @param statistic the saved statistics
      */
-    private void updateProgress() {
-        Statistic statistic = statisticRepository.loadStatistic();
+    private void updateProgress(List<Achievement> achievementsList, Statistic statistic) {
         int nameId;
-        for (Achievement achievement: Objects.requireNonNull(achievements.getValue())) {
+        for (Achievement achievement: achievementsList) {
             nameId = achievement.getNameResId();
             if (nameId == R.string.achievement_name_hooked ||
                     nameId == R.string.achievement_name_addicted ||
@@ -166,19 +174,16 @@ public class AchievementViewModel extends ViewModel {
                 ((BinaryAchievement) achievement).setUnlocked(
                         statistic.getFoundChocolateCake());
         }
-
-        List<Achievement> achievementsList = achievements.getValue();
-        Collections.sort(achievementsList);
-        achievements.setValue(achievementsList);
     }
 
     /**
      * Initialise a list of predefined achievements.
      * Should only be called once when no achievements are present on the device.
+     * @return the predefined achievements
      */
-    private void initAchievements() {
+    private List<Achievement> initAchievements() {
         Log.d(TAG, "Initialising achievements");
-        achievements.setValue(Arrays.asList(
+        return new ArrayList<>(Arrays.asList(
                 new ProgressAchievement(0, R.string.achievement_name_hooked,
                         R.string.achievement_desc_hooked, 0, 1),
                 new ProgressAchievement(1, R.string.achievement_name_addicted,
@@ -1,10 +1,12 @@
 package de.thm.mixit.ui.viewmodel;
 
 import android.content.Context;
+import android.os.SystemClock;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import androidx.core.content.ContextCompat;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MediatorLiveData;
 import androidx.lifecycle.MutableLiveData;
@@ -13,21 +15,36 @@ import androidx.lifecycle.ViewModelProvider;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import de.thm.mixit.BuildConfig;
 import de.thm.mixit.data.entity.Element;
 import de.thm.mixit.data.entity.GameState;
-import de.thm.mixit.data.entity.Statistic;
 import de.thm.mixit.data.model.ElementChip;
+import de.thm.mixit.data.model.ElementUsage;
+import de.thm.mixit.data.model.PlaygroundEvent;
 import de.thm.mixit.data.repository.CombinationRepository;
 import de.thm.mixit.data.repository.ElementRepository;
 import de.thm.mixit.data.repository.GameStateRepository;
+import de.thm.mixit.data.repository.RecipeRepository;
 import de.thm.mixit.data.repository.StatisticRepository;
 import de.thm.mixit.domain.logic.ArcadeTargetChecker;
+import de.thm.mixit.domain.logic.ElementCatalog;
+import de.thm.mixit.domain.logic.ElementSortMode;
+import de.thm.mixit.domain.logic.SessionClock;
+import de.thm.mixit.domain.logic.StartupTrace;
 import de.thm.mixit.domain.usecase.CombinationUseCase;
 import de.thm.mixit.domain.usecase.GameStateUseCase;
+import de.thm.mixit.util.Futures;
 
 /**
  * UI state for the {@link de.thm.mixit.ui.activity.GameActivity}
@@ -38,32 +55,79 @@ import de.thm.mixit.domain.usecase.GameStateUseCase;
  */
 public class GameViewModel extends ViewModel {
     private final static String TAG = GameViewModel.class.getSimpleName();
+    @VisibleForTesting
+    static final int PAGE_SIZE = 100;
+    @VisibleForTesting
+    static final long SEARCH_DEBOUNCE_MS = 150;
     private final CombinationUseCase combinationUseCase;
     private final GameStateUseCase gameStateUseCase;
+    private final Executor mainExecutor;
+    private final ScheduledExecutorService searchExecutor;
+    private final SessionClock sessionClock;
     private final MutableLiveData<List<Element>> elements = new MutableLiveData<>();
     private final MutableLiveData<String> searchQuery = new MutableLiveData<>();
+    private final MutableLiveData<ElementSortMode> sortMode =
+            new MutableLiveData<>(ElementSortMode.DISCOVERY);
     private final MediatorLiveData<List<Element>> filteredElements = new MediatorLiveData<>();
     private final MutableLiveData<ArrayList<ElementChip>> elementsOnPlayground =
             new MutableLiveData<>();
+    private final MutableLiveData<PlaygroundEvent> playgroundEvents = new MutableLiveData<>();
     private final MutableLiveData<Throwable> error = new MutableLiveData<>();
     private final MutableLiveData<Long> passedTime = new MutableLiveData<>();
     private final MutableLiveData<Integer> turns = new MutableLiveData<>();
     private final MutableLiveData<String[]> targetElement = new MutableLiveData<>();
     private final MutableLiveData<Boolean> isWon = new MutableLiveData<>();
-    private Statistic statistics;
+
+    // Paging state of the element catalog, only accessed on the main thread
+    private ElementCatalog catalog = new ElementCatalog();
+    private int lastLoadedId = 0;
+    private boolean hasMorePages = true;
+    private boolean isLoadingPage = false;
+    private boolean isPageOutdated = false;
+    private CompletableFuture<Void> firstPageLoaded = new CompletableFuture<>();
+    private int catalogGeneration = 0;
+
+    // Chips on the playground by id and the version of the last playground event,
+    // only accessed on the main thread
+    private final Map<Integer, ElementChip> chipsById = new HashMap<>();
+    private int playgroundVersion = 0;
+
+    // Play time only passes while the game is shown and a target element exists,
+    // only accessed on the main thread
+    private boolean isClockResumed = false;
+    private boolean hasClockTarget = false;
+
+    // The playground is only changed and saved once the game state is loaded,
+    // only accessed on the main thread
+    private boolean isGameStateLoaded = false;
+    private int loadGeneration = 0;
+
+    // Search state, the latest search wins and all older ones are cancelled
+    private Future<?> pendingSearch;
+    private volatile int searchGeneration = 0;
 
     /**
      * Use the {@link Factory} to get a new GameViewModel instance
      * @param combinationUseCase CombinationUseCase used for dependency injection
      * @param gameStateUseCase CombinationUseCase used for dependency injection
+     * @param mainExecutor Executor running tasks on the main thread
+     * @param searchExecutor Executor running the element search in the background
+     * @param sessionClock Clock measuring the play time
      */
     @VisibleForTesting
     GameViewModel(CombinationUseCase combinationUseCase,
-                  GameStateUseCase gameStateUseCase) {
+                  GameStateUseCase gameStateUseCase,
+                  Executor mainExecutor,
+                  ScheduledExecutorService searchExecutor,
+                  SessionClock sessionClock) {
         this.combinationUseCase = combinationUseCase;
         this.gameStateUseCase = gameStateUseCase;
+        this.mainExecutor = mainExecutor;
+        this.searchExecutor = searchExecutor;
+        this.sessionClock = sessionClock;
         this.filteredElements.addSource(elements, list -> filter());
         this.filteredElements.addSource(searchQuery, query -> filter());
+        this.filteredElements.addSource(sortMode, mode -> filter());
         this.elementsOnPlayground.setValue(new ArrayList<>());
         this.error.setValue(null);
         this.passedTime.setValue(0L);
@@ -72,8 +136,12 @@ public class GameViewModel extends ViewModel {
     }
 
     /**
-     * Get all discovered elements
-     * @return all elements
+     * Get all discovered elements which were loaded so far.
+     * Use {@link #loadNextPage()} to load more elements.
+     * <p>
+     * The list is a read-only view which only grows until the catalog is reloaded,
+     * in which case a new list instance is emitted.
+     * @return loaded elements
      */
     public LiveData<List<Element>> getElements() {
         return elements;
@@ -81,6 +149,12 @@ public class GameViewModel extends ViewModel {
 
     /**
      * Get all elements filtered by last query set using {@link #onSearchQueryChanged}
+     * and ordered by the mode set using {@link #setSortMode}.
+     * <p>
+     * The search runs in the background, {@link #SEARCH_DEBOUNCE_MS} after the query or the
+     * catalog last changed. Until then the previous result is kept.
+     * Orders other than {@link ElementSortMode#DISCOVERY} need the whole catalog and are
+     * published once its last page was loaded.
      * @return filtered elements
      */
     public LiveData<List<Element>> getFilteredElements() {
@@ -88,35 +162,112 @@ public class GameViewModel extends ViewModel {
     }
 
     /**
-     * Get all element chips currently on the playground
+     * Get all element chips currently on the playground.
+     * <p>
+     * The list is only replaced when the whole playground is replaced. Single changes are
+     * applied to the list in place and published by {@link #getPlaygroundEvents()}.
      * @return element chips
      */
     public LiveData<ArrayList<ElementChip>> getElementsOnPlayground() {
         return elementsOnPlayground;
     }
 
+    /**
+     * Get the last change of the playground.
+     * Compare the version of an event with the version of the last applied event to detect
+     * missed events, see {@link #getPlaygroundVersion()}.
+     * @return changes of the playground
+     */
+    public LiveData<PlaygroundEvent> getPlaygroundEvents() {
+        return playgroundEvents;
+    }
+
+    /**
+     * @return version of the last playground event, {@link #getElementsOnPlayground()}
+     * contains all changes up to this version
+     */
+    public int getPlaygroundVersion() {
+        return playgroundVersion;
+    }
+
     /**
      * Set a new filter for the element list returned by {@link #filteredElements}
      * @param query filter
      */
     public void onSearchQueryChanged(String query) {
         searchQuery.setValue(query);
+        // The search has to cover the whole catalog, not only the pages scrolled to
+        if (query != null && !query.isEmpty()) loadNextPage();
     }
 
-    public LiveData<Throwable> getError() {
-        return error;
+    public LiveData<ElementSortMode> getSortMode() {
+        return sortMode;
     }
 
-    public void setPassedTime(Long time) {
-        // Don't increase the counter if no target is generated
-        if (targetElement.getValue() == null) return;
-        passedTime.postValue(time);
+    /**
+     * Set the order of the element list returned by {@link #filteredElements}
+     * @param mode order of the elements
+     */
+    public void setSortMode(ElementSortMode mode) {
+        if (mode == sortMode.getValue()) return;
+        if (mode.needsUsage()) loadUsages();
+        sortMode.setValue(mode);
+        // The order has to cover the whole catalog, not only the pages scrolled to
+        if (mode != ElementSortMode.DISCOVERY) loadNextPage();
     }
 
+    public LiveData<Throwable> getError() {
+        return error;
+    }
+
+    /**
+     * Get the passed play time in seconds. The value is only updated by
+     * {@link #refreshPassedTime()}, e.g. while the time is shown.
+     * @return passed play time in seconds
+     */
     public LiveData<Long> getPassedTime() {
         return passedTime;
     }
 
+    /**
+     * Publishes the current play time to {@link #getPassedTime()}. Must be called on the main
+     * thread.
+     */
+    public void refreshPassedTime() {
+        long seconds = sessionClock.getElapsedSeconds();
+        Long current = passedTime.getValue();
+        if (current == null || current != seconds) passedTime.setValue(seconds);
+    }
+
+    /**
+     * @return milliseconds until the play time reaches the next full second
+     */
+    public long getMillisUntilNextSecond() {
+        return sessionClock.getMillisUntilNextSecond();
+    }
+
+    /**
+     * Lets the play time pass, e.g. when the game is shown again.
+     * The time only passes as soon as a target element exists.
+     */
+    public void resumeClock() {
+        isClockResumed = true;
+        updateClock();
+    }
+
+    /**
+     * Stops the play time, e.g. when the game is not shown anymore
+     */
+    public void pauseClock() {
+        isClockResumed = false;
+        updateClock();
+    }
+
+    private void updateClock() {
+        if (isClockResumed && hasClockTarget) sessionClock.start();
+        else sessionClock.pause();
+    }
+
     public LiveData<Integer> getTurns() {
         return turns;
     }
@@ -129,28 +280,83 @@ public class GameViewModel extends ViewModel {
         return isWon;
     }
 
+    /**
+     * Load the elements, the game state and the target element.
+     * <p>
+     * The first page of elements, the game state and the last target words are loaded in
+     * parallel and shown as soon as each of them is there. Only a missing target element has
+     * to wait for the game state and the last target words. The timings of all loads are
+     * logged in debug builds.
+     */
     public void load() {
-        loadElements();
-
-        gameStateUseCase.load(res -> {
-            if (res.isError()){
-                this.error.postValue(res.getError());
+        int generation = ++loadGeneration;
+        isGameStateLoaded = false;
+        StartupTrace trace = new StartupTrace();
+        // Open the connection for the first new element while the game loads
+        combinationUseCase.preconnect();
+
+        CompletableFuture<Void> elementsLoaded = trace.trace("elements", () -> {
+            loadElements();
+            return firstPageLoaded;
+        });
+        CompletableFuture<List<String>> lastTargetWords =
+                trace.trace("statistics", gameStateUseCase::getLastTargetWordsAsync);
+        CompletableFuture<Void> targetLoaded = trace
+                .trace("snapshot", gameStateUseCase::loadGameStateAsync)
+                .thenApplyAsync(state -> {
+                    if (generation == loadGeneration) applyGameState(state);
+                    return state;
+                }, mainExecutor)
+                .thenCompose(state -> {
+                    if (state.getTargetElement() != null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return lastTargetWords
+                            .thenCompose(words -> trace.trace("target",
+                                    () -> gameStateUseCase.generateTargetWordAsync(state, words),
+                                    "snapshot", "statistics"))
+                            .thenAcceptAsync(target -> {
+                                if (generation == loadGeneration) applyTargetElement(target);
+                            }, mainExecutor);
+                });
+
+        CompletableFuture.allOf(elementsLoaded, targetLoaded).whenComplete((v, e) -> {
+            if (e != null) {
+                Log.e(TAG, "An error occurred while loading the game: " + e);
+                error.postValue(Futures.unwrap(e));
             }
-            this.targetElement.postValue(res.getData().getTargetElement());
+            if (BuildConfig.DEBUG) Log.d(TAG, "Game loaded\n" + trace.format());
         });
-        GameState gameState = this.gameStateUseCase.getGameState();
-        this.elementsOnPlayground.postValue(gameState.getElementChips());
-        this.turns.postValue(gameState.getTurns());
-        this.passedTime.postValue(gameState.getTime());
-        this.targetElement.postValue(gameState.getTargetElement());
+    }
+
+    /**
+     * Show a loaded game state. Runs on the main thread.
+     * @param gameState the loaded game state
+     */
+    private void applyGameState(GameState gameState) {
+        resetPlayground(gameState.getElementChips());
+        turns.setValue(gameState.getTurns());
+        sessionClock.reset(gameState.getTimeMillis());
+        passedTime.setValue(gameState.getTime());
+        isGameStateLoaded = true;
+        applyTargetElement(gameState.getTargetElement());
+    }
 
-        this.statistics = gameStateUseCase.getStatistics();
-        Log.d(TAG, statistics.toString());
+    /**
+     * Show the target element and let the play time pass if there is one.
+     * Runs on the main thread.
+     * @param target the target element or null
+     */
+    private void applyTargetElement(String[] target) {
+        targetElement.setValue(target);
+        hasClockTarget = target != null;
+        updateClock();
     }
 
     public void save() {
+        // Saving before the game state was loaded would overwrite it with an empty one
+        if (!isGameStateLoaded) return;
         assert turns.getValue() != null;
-        assert passedTime.getValue() != null;
         assert elementsOnPlayground.getValue() != null;
 
         // We need to reset this flag before persisting the elements to ensure
@@ -158,11 +364,10 @@ public class GameViewModel extends ViewModel {
         // and can be recombined if the game is restarted
         elementsOnPlayground.getValue().forEach(e -> e.setAnimated(false));
         gameStateUseCase.save(new GameState(
-                        passedTime.getValue(),
+                        sessionClock.getElapsedMillis(),
                         turns.getValue(),
                         targetElement.getValue(),
-                        elementsOnPlayground.getValue()),
-                statistics);
+                        elementsOnPlayground.getValue()));
     }
 
     /**
@@ -178,39 +383,55 @@ public class GameViewModel extends ViewModel {
      * @param element chip to add
      */
     public void addElementToPlayground(ElementChip element) {
+        if (!isGameStateLoaded) return;
         ArrayList<ElementChip> list = elementsOnPlayground.getValue();
         assert list != null;
         list.add(element);
-        elementsOnPlayground.setValue(list);
+        chipsById.put(element.getId(), element);
+        playgroundEvents.setValue(PlaygroundEvent.added(++playgroundVersion, element));
+        gameStateUseCase.logChipAdded(element);
     }
 
+    /**
+     * Move a chip on the playground, does nothing if the chip is not on the playground
+     * @param chip chip to move
+     * @param x new x coordinate
+     * @param y new y coordinate
+     */
     public void updateElementPositonOnPlayground(ElementChip chip, float x, float y) {
-        List<ElementChip> current = elementsOnPlayground.getValue();
-        ArrayList<ElementChip> updated = new ArrayList<>();
-        assert current != null;
-        for (ElementChip e : current) {
-            if (e.equals(chip)) {
-                updated.add(e.withPosition(x, y));
-            } else {
-                updated.add(e);
-            }
-        }
-        elementsOnPlayground.setValue(updated);
+        ElementChip current = chipsById.get(chip.getId());
+        if (current == null || !isGameStateLoaded) return;
+        current.withPosition(x, y);
+        playgroundEvents.setValue(PlaygroundEvent.moved(++playgroundVersion, current));
+        gameStateUseCase.logChipMoved(current);
     }
 
     public void removeElementFromPlayground(ElementChip element) {
         ArrayList<ElementChip> list = elementsOnPlayground.getValue();
         assert list != null;
+        if (!isGameStateLoaded || chipsById.remove(element.getId()) == null) return;
         list.remove(element);
-        elementsOnPlayground.setValue(list);
+        playgroundEvents.setValue(PlaygroundEvent.removed(++playgroundVersion, element));
+        gameStateUseCase.logChipRemoved(element);
     }
 
     public void clearPlayground() {
+        if (!isGameStateLoaded) return;
         int numCleared = Objects.requireNonNull(elementsOnPlayground.getValue()).size();
-        statistics.setNumberOfDiscardedElements(statistics.getNumberOfDiscardedElements() +
-                numCleared);
-        statistics.setMostDiscardedElements(numCleared);
-        elementsOnPlayground.setValue(new ArrayList<>());
+        gameStateUseCase.recordDiscardedElements(numCleared);
+        resetPlayground(new ArrayList<>());
+        gameStateUseCase.logPlaygroundCleared();
+    }
+
+    /**
+     * Replace all chips on the playground
+     * @param chips new chips
+     */
+    private void resetPlayground(ArrayList<ElementChip> chips) {
+        chipsById.clear();
+        for (ElementChip chip : chips) chipsById.put(chip.getId(), chip);
+        elementsOnPlayground.setValue(chips);
+        playgroundEvents.setValue(PlaygroundEvent.reset(++playgroundVersion));
     }
 
     /**
@@ -221,19 +442,18 @@ public class GameViewModel extends ViewModel {
      * @param chip2 reactant 2
      */
     public void combineElements(ElementChip chip1, ElementChip chip2) {
+        if (!isGameStateLoaded) return;
         combinationUseCase.getElement(chip1.getElement(), chip2.getElement(), (result) -> {
             // combineError contains null or the last error while trying to combine two elements.
             if (result.isError()) {
                 Log.e(TAG, "An error occurred while combining: " + result.getError());
-                // Flag the elements to remove the ongoing animation
-                chip1.setAnimated(false);
-                chip2.setAnimated(false);
-                error.postValue(result.getError());
+                mainExecutor.execute(() -> handleFailedCombination(chip1, chip2,
+                        result.getError()));
             } else {
                 Log.d(TAG, "Elements successfully combined.");
                 error.postValue(null);
-                handleCombineElements(chip1, chip2, result.getData());
-                statistics.setLongestElement(result.getData().name);
+                mainExecutor.execute(() -> handleCombineElements(chip1, chip2, result.getData()));
+                gameStateUseCase.recordNewElement(result.getData().name);
             }
         });
     }
@@ -241,31 +461,153 @@ public class GameViewModel extends ViewModel {
     public void increaseTurnCounter() {
         assert turns.getValue() != null;
         turns.setValue(turns.getValue() + 1);
-        statistics.setNumberOfCombinations(statistics.getNumberOfCombinations() + 1);
+        gameStateUseCase.recordCombination();
     }
 
     /**
-     * Get all elements from the element repository
+     * Discard all loaded elements and load the first page from the element repository
      */
     @VisibleForTesting
     void loadElements() {
-        this.gameStateUseCase.getAllElements(elements::postValue);
+        catalog = new ElementCatalog();
+        lastLoadedId = 0;
+        hasMorePages = true;
+        isLoadingPage = false;
+        isPageOutdated = false;
+        catalogGeneration++;
+        firstPageLoaded = new CompletableFuture<>();
+        if (Objects.requireNonNull(sortMode.getValue()).needsUsage()) loadUsages();
+        loadNextPage();
     }
 
     /**
-     * Transform {@link #elements} using {@link #searchQuery} to {@link #filteredElements}
+     * Load the usages of all elements into the catalog if they are not loaded yet
+     */
+    private void loadUsages() {
+        if (catalog.hasUsages()) return;
+        ElementCatalog loadingCatalog = catalog;
+        gameStateUseCase.getElementUsages(usages -> mainExecutor.execute(() -> {
+            loadingCatalog.setUsages(usages);
+            if (loadingCatalog == catalog) filter();
+        }));
+    }
+
+    /**
+     * Load the next page of elements if there is one and no page is currently loading.
+     * <p>
+     * Pages are keyed by the id of the last loaded element, so new elements which are
+     * inserted after a combination are picked up by the next page without reloading
+     * the pages which were already loaded.
+     */
+    public void loadNextPage() {
+        if (isLoadingPage || !hasMorePages) return;
+        isLoadingPage = true;
+        int generation = catalogGeneration;
+        gameStateUseCase.getElementPage(lastLoadedId, PAGE_SIZE, page ->
+                mainExecutor.execute(() -> onPageLoaded(generation, page)));
+    }
+
+    /**
+     * Append a loaded page to the catalog. Runs on the main thread.
+     * @param generation catalog generation the page was requested for
+     * @param page loaded elements
+     */
+    private void onPageLoaded(int generation, List<Element> page) {
+        // The catalog was reloaded in the meantime
+        if (generation != catalogGeneration) return;
+        isLoadingPage = false;
+        catalog.appendPage(page);
+        firstPageLoaded.complete(null);
+        if (!page.isEmpty()) lastLoadedId = page.get(page.size() - 1).id;
+        // An element discovered during the query might be missing, so query once more
+        boolean isOutdated = isPageOutdated;
+        hasMorePages = page.size() == PAGE_SIZE || isOutdated;
+        isPageOutdated = false;
+        elements.setValue(catalog.getElements());
+
+        String query = searchQuery.getValue();
+        if (isOutdated || isOrdered() || (query != null && !query.isEmpty())) loadNextPage();
+    }
+
+    /**
+     * Append an element resulting from a combination to the catalog if it is new.
+     * If not all pages are loaded yet, the element will be part of a later page instead.
+     * Runs on the main thread.
+     * @param element the product of a combination
+     */
+    private void onElementDiscovered(Element element) {
+        if (catalog.hasUsages()) {
+            ElementCatalog discoveredCatalog = catalog;
+            gameStateUseCase.getElementUsage(element.id, usage -> mainExecutor.execute(() ->
+                    onUsageChanged(discoveredCatalog, usage)));
+        }
+        if (isLoadingPage) isPageOutdated = true;
+        if (hasMorePages || isLoadingPage || catalog.contains(element.id)) return;
+        catalog.append(element);
+        lastLoadedId = Math.max(lastLoadedId, element.id);
+        elements.setValue(catalog.getElements());
+    }
+
+    /**
+     * Move an element to its new position after it was produced by a combination.
+     * Runs on the main thread.
+     * @param usageCatalog catalog the usage was requested for
+     * @param usage new usage of the element
+     */
+    private void onUsageChanged(ElementCatalog usageCatalog, ElementUsage usage) {
+        usageCatalog.updateUsage(usage);
+        if (usageCatalog == catalog && isOrdered()) filter();
+    }
+
+    /**
+     * @return {@code true} if the element list is not shown in discovery order
+     */
+    private boolean isOrdered() {
+        return sortMode.getValue() != ElementSortMode.DISCOVERY;
+    }
+
+    /**
+     * Transform {@link #elements} using {@link #searchQuery} and {@link #sortMode}
+     * to {@link #filteredElements}.
+     * <p>
+     * Runs on the main thread and cancels the pending search. A non-empty query is searched on
+     * the {@link #searchExecutor} after {@link #SEARCH_DEBOUNCE_MS}, so typing a word only
+     * searches once. An order is built on the same executor without delay.
+     * Results of a search which was superseded in the meantime are dropped.
      */
     private void filter() {
         List<Element> all = elements.getValue();
         String query = searchQuery.getValue();
-        if (all == null || query == null || query.isEmpty()) {
+        ElementSortMode mode = sortMode.getValue();
+        if (pendingSearch != null) pendingSearch.cancel(false);
+        int generation = ++searchGeneration;
+        boolean isSearch = query != null && !query.isEmpty();
+        if (all == null || (!isSearch && !isOrdered())) {
+            pendingSearch = null;
             filteredElements.setValue(all);
-        } else {
-            List<Element> filtered = all.stream()
-                    .filter(e -> e.toString().toLowerCase().contains(query.toLowerCase()))
-                    .collect(Collectors.toList());
-            filteredElements.setValue(filtered);
+            return;
         }
+        // Keep the previous list until the whole catalog and its usages are loaded
+        if (isOrdered() && (hasMorePages
+                || (Objects.requireNonNull(mode).needsUsage() && !catalog.hasUsages()))) {
+            pendingSearch = null;
+            return;
+        }
+        ElementCatalog searchedCatalog = catalog;
+        pendingSearch = searchExecutor.schedule(() -> {
+            if (generation != searchGeneration) return;
+            List<Element> result = isSearch
+                    ? searchedCatalog.search(query, mode)
+                    : searchedCatalog.getOrderedSnapshot(mode);
+            mainExecutor.execute(() -> {
+                if (generation == searchGeneration) filteredElements.setValue(result);
+            });
+        }, isSearch ? SEARCH_DEBOUNCE_MS : 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void onCleared() {
+        searchExecutor.shutdownNow();
     }
 
     /**
@@ -274,23 +616,22 @@ public class GameViewModel extends ViewModel {
      * @param newWord           The word which must be inside targetElements in order to win.
      */
     private void checkIsWon(String[] targetWords, String newWord) {
-        assert passedTime.getValue() != null;
         assert turns.getValue() != null;
 
         if (targetWords == null) return;
         if (ArcadeTargetChecker.matchesTargetElement(targetWords, newWord)) {
             Log.d(TAG, newWord + " matches " + Arrays.toString(targetElement.getValue()));
+            // The victory screen shows the exact time, even if the timer was not visible
+            refreshPassedTime();
             isWon.postValue(true);
 
             // Set Statistics
-            statistics.setArcadeGamesWon(statistics.getArcadeGamesWon() + 1);
-            statistics.setShortestArcadeTimeToBeat(passedTime.getValue());
-            statistics.setFewestArcadeTurnsToBeat(turns.getValue());
+            gameStateUseCase.recordArcadeWin(sessionClock.getElapsedSeconds(), turns.getValue());
         }
     }
 
     /**
-     * Handle playground changes after successful combination
+     * Handle playground changes after successful combination. Runs on the main thread.
      * @param chip1 reactant 1
      * @param chip2 reactant 2
      * @param newElement product
@@ -298,14 +639,35 @@ public class GameViewModel extends ViewModel {
     private void handleCombineElements(ElementChip chip1, ElementChip chip2, Element newElement) {
         ArrayList<ElementChip> list = elementsOnPlayground.getValue();
         assert list != null;
+        chipsById.remove(chip1.getId());
+        chipsById.remove(chip2.getId());
         list.remove(chip1);
         list.remove(chip2);
-        list.add(new ElementChip(newElement, chip1.getX(), chip1.getY()));
-        elementsOnPlayground.postValue(list);
-        loadElements();
+        ElementChip product = new ElementChip(newElement, chip1.getX(), chip1.getY());
+        list.add(product);
+        chipsById.put(product.getId(), product);
+        playgroundEvents.setValue(
+                PlaygroundEvent.combined(++playgroundVersion, product, chip1, chip2));
+        gameStateUseCase.logCombination(chip1, chip2, product);
+        onElementDiscovered(newElement);
         checkIsWon(targetElement.getValue(), newElement.name);
     }
 
+    /**
+     * Ends the animation of both reactants after a failed combination. Runs on the main thread.
+     * @param chip1 reactant 1
+     * @param chip2 reactant 2
+     * @param combineError the reason the combination failed
+     */
+    private void handleFailedCombination(ElementChip chip1, ElementChip chip2,
+                                         Throwable combineError) {
+        chip1.setAnimated(false);
+        chip2.setAnimated(false);
+        playgroundEvents.setValue(
+                PlaygroundEvent.combinationFailed(++playgroundVersion, chip1, chip2));
+        error.setValue(combineError);
+    }
+
     /**
      * Creates a new {@link GameViewModel} instance or returns an existing one
      * @author Josia Menger
@@ -314,8 +676,10 @@ public class GameViewModel extends ViewModel {
 
         private final CombinationUseCase combinationUseCase;
         private final GameStateUseCase gameStateUseCase;
+        private final Executor mainExecutor;
 
         public Factory(Context context, boolean isArcade) {
+            this.mainExecutor = ContextCompat.getMainExecutor(context);
             CombinationRepository combinationRepository =
                     CombinationRepository.create(context, isArcade);
             ElementRepository elementRepository = ElementRepository.create(context, isArcade);
@@ -323,7 +687,8 @@ public class GameViewModel extends ViewModel {
             StatisticRepository statisticRepository = StatisticRepository.create(context);
 
             this.combinationUseCase =
-                    new CombinationUseCase(combinationRepository, elementRepository);
+                    new CombinationUseCase(combinationRepository, elementRepository,
+                            RecipeRepository.create(context));
             this.gameStateUseCase = new GameStateUseCase(combinationRepository, elementRepository,
                     gameStateRepository, statisticRepository);
         }
@@ -333,7 +698,11 @@ public class GameViewModel extends ViewModel {
         @SuppressWarnings("unchecked")
         public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
             if (modelClass == GameViewModel.class) {
-                return (T) new GameViewModel(combinationUseCase, gameStateUseCase);
+                ScheduledExecutorService searchExecutor =
+                        Executors.newSingleThreadScheduledExecutor();
+                return (T) new GameViewModel(combinationUseCase, gameStateUseCase,
+                        mainExecutor, searchExecutor,
+                        new SessionClock(SystemClock::elapsedRealtime));
             }
             throw new IllegalArgumentException("Unknown ViewModel class");
         }
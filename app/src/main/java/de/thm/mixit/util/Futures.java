@@ -0,0 +1,133 @@
+package de.thm.mixit.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import de.thm.mixit.data.model.Result;
+
+/**
+ * Helpers to use {@link CompletableFuture} together with the callback based API of the app.
+ * <p>
+ * Callback methods can be wrapped into futures, futures can be delivered to callbacks as
+ * {@link Result} and futures can be limited by a timeout. {@code CompletableFuture#orTimeout}
+ * is only available on newer Android versions, so timeouts are scheduled on a shared daemon
+ * thread instead.
+ */
+public final class Futures {
+
+    private static final ScheduledExecutorService timer =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Futures-Timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private Futures() {}
+
+    /**
+     * Wraps a method which delivers its result to a callback
+     * @param call starts the method with the given callback
+     * @param <T> type of the result
+     * @return future completed with the value passed to the callback
+     */
+    public static <T> CompletableFuture<T> fromCallback(Consumer<Consumer<T>> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        call.accept(future::complete);
+        return future;
+    }
+
+    /**
+     * Wraps a method which delivers a {@link Result} to a callback
+     * @param call starts the method with the given callback
+     * @param <T> type of the result
+     * @return future completed with the data or the error of the result
+     */
+    public static <T> CompletableFuture<T> fromResult(Consumer<Consumer<Result<T>>> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        call.accept(result -> {
+            if (result.isError()) future.completeExceptionally(result.getError());
+            else future.complete(result.getData());
+        });
+        return future;
+    }
+
+    /**
+     * Waits for a future at most for the given time.
+     * The given future is not changed by the timeout, so stages attached to it still run
+     * when it completes late.
+     * @param future the future to wait for
+     * @param timeout time to wait
+     * @param unit unit of the timeout
+     * @param <T> type of the result
+     * @return a new future completed with the outcome of the given future or with a
+     *         {@link TimeoutException} if it is not done in time
+     */
+    public static <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future,
+                                                       long timeout, TimeUnit unit) {
+        CompletableFuture<T> timed = new CompletableFuture<>();
+        future.whenComplete(completing(timed));
+        if (timed.isDone()) return timed;
+        ScheduledFuture<?> task = timer.schedule(() -> timed.completeExceptionally(
+                new TimeoutException("Not completed within " + timeout + " " + unit)),
+                timeout, unit);
+        timed.whenComplete((value, error) -> task.cancel(false));
+        return timed;
+    }
+
+    /**
+     * Creates an action which delivers the outcome of a future to a callback
+     * @param callback receives the value or the unwrapped error
+     * @param <T> type of the result
+     * @return action to pass to {@link CompletableFuture#whenComplete}
+     */
+    public static <T> BiConsumer<T, Throwable> toResult(Consumer<Result<T>> callback) {
+        return (value, error) -> {
+            if (error != null) callback.accept(Result.failure(unwrap(error)));
+            else callback.accept(Result.success(value));
+        };
+    }
+
+    /**
+     * Creates an action which completes another future with the outcome of a future
+     * @param target the future to complete, unchanged if it is already done
+     * @param <T> type of the result
+     * @return action to pass to {@link CompletableFuture#whenComplete}
+     */
+    public static <T> BiConsumer<T, Throwable> completing(CompletableFuture<T> target) {
+        return (value, error) -> {
+            if (error != null) target.completeExceptionally(unwrap(error));
+            else target.complete(value);
+        };
+    }
+
+    /**
+     * @param <T> type of the result
+     * @return a future which is already cancelled
+     */
+    public static <T> CompletableFuture<T> cancelled() {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.cancel(false);
+        return future;
+    }
+
+    /**
+     * Removes the wrappers added by the stages of a future
+     * @param error error a future was completed with
+     * @return the error which caused the failure
+     */
+    public static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+}
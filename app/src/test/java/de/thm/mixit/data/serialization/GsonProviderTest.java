@@ -0,0 +1,75 @@
+package de.thm.mixit.data.serialization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.Gson;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.thm.mixit.data.entity.BinaryAchievement;
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.entity.ProgressAchievement;
+import de.thm.mixit.data.model.ElementChip;
+
+/**
+ * Tests for the type adapters registered in {@link GsonProvider}
+ */
+public class GsonProviderTest {
+
+    private final Gson gson = GsonProvider.getGson();
+
+    @Test
+    public void elementChipList_RoundTrip_KeepsAllProperties() {
+        Element element = new Element("Wasser", "\uD83D\uDCA7");
+        element.id = 1;
+        ArrayList<ElementChip> chips = new ArrayList<>(List.of(
+                new ElementChip(3, element, 12.5f, 40.25f)));
+
+        String json = gson.toJson(chips, GsonProvider.ELEMENT_CHIP_LIST_TYPE);
+        ArrayList<ElementChip> result = gson.fromJson(json, GsonProvider.ELEMENT_CHIP_LIST_TYPE);
+
+        assertEquals(1, result.size());
+        assertEquals(3, result.get(0).getId());
+        assertEquals(12.5f, result.get(0).getX(), 0.001);
+        assertEquals(40.25f, result.get(0).getY(), 0.001);
+        assertEquals(1, result.get(0).getElement().id);
+        assertEquals("Wasser", result.get(0).getElement().name);
+        assertEquals("\uD83D\uDCA7", result.get(0).getElement().emoji);
+    }
+
+    @Test
+    public void elementChipList_WithReflectiveLayout_IsStillReadable() {
+        String json = "[{\"isAnimated\":true,\"id\":7,\"element\":{\"id\":2,"
+                + "\"name\":\"Erde\",\"emoji\":\"\uD83C\uDF0D\"},\"x\":1.0,\"y\":2.0}]";
+
+        ArrayList<ElementChip> result = gson.fromJson(json, GsonProvider.ELEMENT_CHIP_LIST_TYPE);
+
+        assertEquals(7, result.get(0).getId());
+        assertTrue(result.get(0).isAnimated());
+        assertEquals("Erde", result.get(0).getElement().name);
+        assertEquals(2.0f, result.get(0).getY(), 0.001);
+    }
+
+    @Test
+    public void achievements_RoundTrip_KeepsAllProperties() {
+        BinaryAchievement binary = gson.fromJson(
+                gson.toJson(new BinaryAchievement(9, 1, 2, true), BinaryAchievement.class),
+                BinaryAchievement.class);
+        ProgressAchievement progress = gson.fromJson(
+                gson.toJson(new ProgressAchievement(3, 4, 5, 6, 200),
+                        ProgressAchievement.class),
+                ProgressAchievement.class);
+
+        assertEquals(9, binary.getId());
+        assertTrue(binary.isUnlocked());
+        assertEquals(3, progress.getId());
+        assertEquals(6, progress.getCurrentProgress());
+        assertEquals(200, progress.getTargetProgress());
+        assertFalse(progress.isUnlocked());
+    }
+}
@@ -0,0 +1,89 @@
+package de.thm.mixit.data.source;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.model.ElementChip;
+
+/**
+ * Tests for {@link ElementRegistry}
+ */
+public class ElementRegistryTest {
+
+    private ElementRegistry registry;
+
+    @Before
+    public void setup() {
+        registry = new ElementRegistry();
+    }
+
+    @Test
+    public void intern_WithLoadedCopy_ReturnsFirstInstance() {
+        Element first = element(1, "Wasser", "\uD83D\uDCA7");
+        Element copy = element(1, "Wasser", "\uD83D\uDCA7");
+
+        assertSame(first, registry.intern(first));
+        assertSame(first, registry.intern(copy));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void intern_WithUnsavedElement_ReturnsElementUnchanged() {
+        Element unsaved = new Element("Dampf", "\uD83D\uDCA8");
+
+        assertSame(unsaved, registry.intern(unsaved));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void intern_WithChangedElementOfKnownId_ReplacesInstance() {
+        registry.intern(element(5, "Schlamm", "\uD83D\uDFEB"));
+        Element changed = element(5, "Stein", "\uD83E\uDEA8");
+
+        assertSame(changed, registry.intern(changed));
+        assertSame(changed, registry.intern(element(5, "Stein", "\uD83E\uDEA8")));
+    }
+
+    @Test
+    public void internChips_WithChipsOfSameElement_SharesOneInstance() {
+        Element canonical = registry.intern(element(1, "Wasser", "\uD83D\uDCA7"));
+        List<ElementChip> chips = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ElementChip chip = new ElementChip(i, element(1, "Wasser", "\uD83D\uDCA7"), i, i);
+            chip.setAnimated(i == 3);
+            chips.add(chip);
+        }
+
+        registry.internChips(chips);
+
+        for (int i = 0; i < 50; i++) {
+            assertSame(canonical, chips.get(i).getElement());
+            assertEquals(i, chips.get(i).getId());
+            assertEquals(i, chips.get(i).getX(), 0.001);
+        }
+        assertTrue(chips.get(3).isAnimated());
+    }
+
+    @Test
+    public void clear_WithKnownElement_ForgetsInstance() {
+        Element first = registry.intern(element(1, "Wasser", "\uD83D\uDCA7"));
+        registry.clear();
+
+        assertNotSame(first, registry.intern(element(1, "Wasser", "\uD83D\uDCA7")));
+    }
+
+    private static Element element(int id, String name, String emoji) {
+        Element element = new Element(name, emoji);
+        element.id = id;
+        return element;
+    }
+}
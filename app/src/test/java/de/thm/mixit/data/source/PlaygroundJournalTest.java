@@ -0,0 +1,141 @@
+package de.thm.mixit.data.source;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.model.ElementChip;
+
+/**
+ * Tests for {@link PlaygroundJournal}
+ */
+public class PlaygroundJournalTest {
+
+    private File file;
+    private final Element water = new Element("Wasser", "\uD83D\uDCA7");
+    private final Element fire = new Element("Feuer", "\uD83D\uDD25");
+    private final Element steam = new Element("Dampf", "\uD83D\uDCA8");
+
+    @Before
+    public void setup() throws IOException {
+        file = File.createTempFile("playground", ".journal");
+        assertTrue(file.delete());
+        water.id = 1;
+        fire.id = 2;
+        steam.id = 3;
+    }
+
+    @After
+    public void tearDown() {
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+    }
+
+    @Test
+    public void replay_AfterMutations_RestoresPlayground() {
+        PlaygroundJournal journal = new PlaygroundJournal(file);
+        journal.appendAdd(new ElementChip(0, water, 10f, 20f));
+        journal.appendAdd(new ElementChip(1, fire, 30f, 40f));
+        journal.appendAdd(new ElementChip(2, water, 50f, 60f));
+        journal.appendMove(0, 15f, 25f);
+        journal.appendRemove(2);
+        journal.appendCombine(0, 1, new ElementChip(3, steam, 15f, 25f));
+        journal.flush();
+
+        List<ElementChip> chips = new ArrayList<>();
+        int count = new PlaygroundJournal(file).replay(chips);
+
+        assertEquals(6, count);
+        assertEquals(1, chips.size());
+        assertEquals(3, chips.get(0).getId());
+        assertEquals("Dampf", chips.get(0).getElement().name);
+        assertEquals(3, chips.get(0).getElement().id);
+        assertEquals(15f, chips.get(0).getX(), 0.001);
+        assertEquals(25f, chips.get(0).getY(), 0.001);
+    }
+
+    @Test
+    public void replay_WithClear_AppliesOnTopOfSnapshot() {
+        List<ElementChip> snapshot = new ArrayList<>(List.of(new ElementChip(0, water, 1f, 2f)));
+        PlaygroundJournal journal = new PlaygroundJournal(file);
+        journal.appendClear();
+        journal.appendAdd(new ElementChip(5, fire, 3f, 4f));
+        journal.flush();
+
+        new PlaygroundJournal(file).replay(snapshot);
+
+        assertEquals(1, snapshot.size());
+        assertEquals(5, snapshot.get(0).getId());
+    }
+
+    @Test
+    public void replay_WithTornRecord_IgnoresTailAndAppendsAfterValidRecords()
+            throws IOException {
+        PlaygroundJournal journal = new PlaygroundJournal(file);
+        journal.appendAdd(new ElementChip(0, water, 10f, 20f));
+        journal.appendAdd(new ElementChip(1, fire, 30f, 40f));
+        journal.flush();
+        // Simulate the process being killed in the middle of the last record
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+
+        List<ElementChip> chips = new ArrayList<>();
+        PlaygroundJournal reopened = new PlaygroundJournal(file);
+        assertEquals(1, reopened.replay(chips));
+        assertEquals(1, chips.size());
+
+        reopened.appendRemove(0);
+        reopened.flush();
+        List<ElementChip> replayed = new ArrayList<>();
+        assertEquals(2, new PlaygroundJournal(file).replay(replayed));
+        assertEquals(0, replayed.size());
+    }
+
+    @Test
+    public void truncate_AfterSnapshot_DiscardsRecords() {
+        PlaygroundJournal journal = new PlaygroundJournal(file);
+        journal.appendAdd(new ElementChip(0, water, 10f, 20f));
+        journal.truncate();
+        journal.appendMove(0, 1f, 1f);
+        journal.flush();
+
+        List<ElementChip> chips = new ArrayList<>(List.of(new ElementChip(0, water, 10f, 20f)));
+        assertEquals(1, new PlaygroundJournal(file).replay(chips));
+        assertEquals(1f, chips.get(0).getX(), 0.001);
+    }
+
+    @Test
+    public void compact_WithWrittenSnapshot_DiscardsOnlyEarlierRecords() {
+        PlaygroundJournal journal = new PlaygroundJournal(file);
+        journal.appendAdd(new ElementChip(0, water, 10f, 20f));
+        journal.compact(() -> true);
+        journal.appendAdd(new ElementChip(1, fire, 30f, 40f));
+
+        List<ElementChip> chips = new ArrayList<>();
+        assertEquals(1, journal.replay(chips));
+        assertEquals(1, chips.get(0).getId());
+    }
+
+    @Test
+    public void replay_InQueueAfterTruncate_SeesNoRecords() {
+        PlaygroundJournal journal = new PlaygroundJournal(file);
+        journal.appendAdd(new ElementChip(0, water, 10f, 20f));
+        journal.truncate();
+
+        int count = journal.runInQueue(() -> journal.replay(new ArrayList<>()));
+
+        assertEquals(0, count);
+        assertEquals(0, journal.size());
+    }
+}
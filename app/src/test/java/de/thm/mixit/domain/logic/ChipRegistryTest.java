@@ -0,0 +1,79 @@
+package de.thm.mixit.domain.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.model.ElementChip;
+
+/**
+ * Tests for {@link ChipRegistry}
+ */
+public class ChipRegistryTest {
+
+    private ChipRegistry<String> registry;
+    private ElementChip water;
+    private ElementChip fire;
+
+    @Before
+    public void setup() {
+        registry = new ChipRegistry<>();
+        water = new ElementChip(1, new Element("Wasser", "\uD83D\uDCA7"), 0, 0);
+        fire = new ElementChip(2, new Element("Feuer", "\uD83D\uDD25"), 10, 10);
+        registry.put(water);
+        registry.put(fire);
+        registry.putView(1, "view1");
+    }
+
+    @Test
+    public void get_WithRegisteredId_ReturnsChipAndView() {
+        assertSame(water, registry.get(1));
+        assertEquals("view1", registry.getView(1));
+        assertNull(registry.getView(2));
+        assertNull(registry.get(3));
+    }
+
+    @Test
+    public void remove_WithRegisteredId_ReturnsViewAndForgetsChip() {
+        assertEquals("view1", registry.remove(1));
+
+        assertFalse(registry.contains(1));
+        assertNull(registry.getView(1));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void put_WithLoadedCopyOfChip_ReplacesChip() {
+        ElementChip loaded = new ElementChip(1, new Element("Wasser", "\uD83D\uDCA7"), 5, 5);
+
+        registry.put(loaded);
+
+        assertSame(loaded, registry.get(1));
+        assertEquals(water, loaded);
+        assertEquals(water.hashCode(), loaded.hashCode());
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void getChips_AfterRegistration_ReturnsChipsInRegistrationOrder() {
+        List<ElementChip> chips = new ArrayList<>(registry.getChips());
+
+        assertEquals(2, chips.size());
+        assertSame(water, chips.get(0));
+        assertSame(fire, chips.get(1));
+    }
+
+    @Test
+    public void putView_WithUnknownChip_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.putView(3, "view3"));
+    }
+}
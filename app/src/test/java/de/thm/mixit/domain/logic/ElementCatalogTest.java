@@ -0,0 +1,99 @@
+package de.thm.mixit.domain.logic;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import de.thm.mixit.data.entity.Element;
+import de.thm.mixit.data.model.ElementUsage;
+
+/**
+ * Tests for the orders of {@link ElementCatalog}
+ */
+public class ElementCatalogTest {
+
+    private ElementCatalog catalog;
+
+    @Before
+    public void setup() {
+        catalog = new ElementCatalog();
+        catalog.appendPage(Arrays.asList(
+                element(1, "Wasser"),
+                element(2, "Erde"),
+                element(3, "\u00C4ther"),
+                element(4, "feuer")));
+    }
+
+    @Test
+    public void getOrdered_Alphabetical_IgnoresCaseAndUmlauts() {
+        assertNames(Arrays.asList("\u00C4ther", "Erde", "feuer", "Wasser"),
+                catalog.getOrdered(ElementSortMode.ALPHABETICAL));
+    }
+
+    @Test
+    public void append_AfterOrderWasBuilt_InsertsElementSorted() {
+        List<Element> ordered = catalog.getOrdered(ElementSortMode.ALPHABETICAL);
+        catalog.append(element(5, "Dampf"));
+
+        assertNames(Arrays.asList("\u00C4ther", "Dampf", "Erde", "feuer", "Wasser"), ordered);
+        assertEquals(5, catalog.getOrdered(ElementSortMode.DISCOVERY).get(4).id);
+    }
+
+    @Test
+    public void getElements_AfterAppend_KeepsSnapshot() {
+        List<Element> before = catalog.getElements();
+        for (int id = 5; id <= 100; id++) catalog.append(element(id, "Element" + id));
+
+        assertEquals(4, before.size());
+        assertEquals(4, before.get(3).id);
+        assertEquals(100, catalog.getElements().size());
+        assertEquals(100, catalog.getElements().get(99).id);
+    }
+
+    @Test
+    public void getOrderedSnapshot_AfterAppend_DoesNotChange() {
+        List<Element> snapshot = catalog.getOrderedSnapshot(ElementSortMode.ALPHABETICAL);
+        catalog.append(element(5, "Dampf"));
+
+        assertNames(Arrays.asList("\u00C4ther", "Erde", "feuer", "Wasser"), snapshot);
+    }
+
+    @Test
+    public void updateUsage_WithMostUsed_MovesElementToNewPosition() {
+        catalog.setUsages(Arrays.asList(
+                new ElementUsage(2, 3, 10),
+                new ElementUsage(4, 1, 20)));
+        List<Element> ordered = catalog.getOrdered(ElementSortMode.MOST_USED);
+        assertNames(Arrays.asList("Erde", "feuer", "Wasser", "\u00C4ther"), ordered);
+
+        catalog.updateUsage(new ElementUsage(4, 5, 30));
+
+        assertNames(Arrays.asList("feuer", "Erde", "Wasser", "\u00C4ther"), ordered);
+        assertNames(Arrays.asList("feuer", "Erde", "\u00C4ther", "Wasser"),
+                catalog.getOrdered(ElementSortMode.RECENTLY_USED));
+    }
+
+    @Test
+    public void search_WithSortMode_SortsMatches() {
+        List<Element> result = catalog.search("er", ElementSortMode.ALPHABETICAL);
+
+        assertNames(Arrays.asList("\u00C4ther", "Erde", "feuer", "Wasser"), result);
+    }
+
+    private static void assertNames(List<String> expected, List<Element> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i).name);
+        }
+    }
+
+    private static Element element(int id, String name) {
+        Element element = new Element(name, "\u2728");
+        element.id = id;
+        return element;
+    }
+}
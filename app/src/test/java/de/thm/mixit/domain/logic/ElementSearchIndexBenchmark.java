@@ -0,0 +1,70 @@
+package de.thm.mixit.domain.logic;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import de.thm.mixit.data.entity.Element;
+
+/**
+ * Benchmark of {@link ElementSearchIndex} against the previous linear scan at 10k and 100k
+ * elements. Timings depend on the machine, so it is not part of the unit tests and has to be
+ * run manually after removing {@link Ignore}.
+ */
+@Ignore("Benchmark, run manually")
+public class ElementSearchIndexBenchmark {
+
+    private static final String[] QUERIES = {"was", "stein", "erung", "kuchen", "luft", "eis"};
+    private static final int ROUNDS = 50;
+
+    @Test
+    public void search_At10kElements_IsFasterThanLinearScan() {
+        benchmark(10_000);
+    }
+
+    @Test
+    public void search_At100kElements_IsFasterThanLinearScan() {
+        benchmark(100_000);
+    }
+
+    /**
+     * Measures the average time per query of the index and of the linear scan.
+     * The timings are part of the message of the assertion.
+     */
+    private static void benchmark(int n) {
+        List<Element> catalog = ElementSearchIndexTest.randomCatalog(n, new Random(n));
+        ElementSearchIndex index = new ElementSearchIndex();
+
+        long start = System.nanoTime();
+        catalog.forEach(index::add);
+        long buildNanos = System.nanoTime() - start;
+
+        List<Element> result = new ArrayList<>();
+        start = System.nanoTime();
+        for (int r = 0; r < ROUNDS; r++) {
+            for (String query : QUERIES) {
+                result.clear();
+                index.search(query, result);
+            }
+        }
+        long indexNanos = (System.nanoTime() - start) / (ROUNDS * QUERIES.length);
+
+        start = System.nanoTime();
+        for (int r = 0; r < ROUNDS; r++) {
+            for (String query : QUERIES) {
+                ElementSearchIndexTest.linearScan(catalog, query);
+            }
+        }
+        long scanNanos = (System.nanoTime() - start) / (ROUNDS * QUERIES.length);
+
+        String timings = String.format(Locale.ROOT, "n=%d build=%dms index=%dus scan=%dus",
+                n, buildNanos / 1_000_000, indexNanos / 1_000, scanNanos / 1_000);
+        assertTrue(timings, indexNanos < scanNanos);
+    }
+}
@@ -0,0 +1,128 @@
+package de.thm.mixit.domain.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import de.thm.mixit.data.entity.Element;
+
+/**
+ * Tests for {@link ElementSearchIndex}
+ */
+public class ElementSearchIndexTest {
+
+    private ElementSearchIndex index;
+
+    @Before
+    public void setup() {
+        index = new ElementSearchIndex();
+        index.add(new Element("Wasser", "\uD83D\uDCA7"));
+        index.add(new Element("Erde", "\uD83C\uDF0D"));
+        index.add(new Element("Feuer", "\uD83D\uDD25"));
+        index.add(new Element("Wasserdampf", "\uD83D\uDCA8"));
+        index.add(new Element("Schlamm", "\uD83D\uDFEB"));
+    }
+
+    @Test
+    public void search_WithTrigramQuery_ReturnsMatchesInInsertionOrder() {
+        List<Element> result = new ArrayList<>();
+        index.search("ASSER", result);
+
+        assertEquals(2, result.size());
+        assertEquals("Wasser", result.get(0).name);
+        assertEquals("Wasserdampf", result.get(1).name);
+    }
+
+    @Test
+    public void search_WithShortQuery_ScansAllKeys() {
+        List<Element> result = new ArrayList<>();
+        index.search("er", result);
+
+        assertEquals(4, result.size());
+    }
+
+    @Test
+    public void search_WithUnknownTrigram_ReturnsNothing() {
+        List<Element> result = new ArrayList<>();
+        index.search("xyz", result);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void search_WithRepeatedTrigramInName_ReturnsElementOnce() {
+        index.add(new Element("Lalala", "\uD83C\uDFB5"));
+        List<Element> result = new ArrayList<>();
+        index.search("lal", result);
+
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    public void search_WithoutDiacritics_FindsUmlautsAndSharpS() {
+        index.add(new Element("K\u00E4se", "\uD83E\uDDC0"));
+        index.add(new Element("Stra\u00DFe", "\uD83D\uDEE3"));
+        List<Element> result = new ArrayList<>();
+
+        index.search("kase", result);
+        assertEquals(1, result.size());
+        assertEquals("K\u00E4se", result.get(0).name);
+
+        result.clear();
+        index.search("STRASSE", result);
+        assertEquals(1, result.size());
+
+        result.clear();
+        index.search("K\u00C4S", result);
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    public void fold_WithDecomposedUmlaut_EqualsComposedUmlaut() {
+        assertEquals(SearchKey.fold("K\u00E4se"), SearchKey.fold("Ka\u0308se"));
+        assertEquals("strasse", SearchKey.fold("Stra\u00DFe"));
+        assertEquals("wasser", SearchKey.fold("wasser"));
+    }
+
+    @Test
+    public void search_WithRandomCatalog_MatchesLinearScan() {
+        List<Element> catalog = randomCatalog(5_000, new Random(7));
+        ElementSearchIndex large = new ElementSearchIndex();
+        catalog.forEach(large::add);
+
+        for (String query : new String[] {"a", "ke", "ter", "ung", "erstein", "qqq"}) {
+            List<Element> result = new ArrayList<>();
+            large.search(query, result);
+            assertEquals(query, linearScan(catalog, query), result);
+        }
+    }
+
+    static List<Element> linearScan(List<Element> catalog, String query) {
+        List<Element> result = new ArrayList<>();
+        for (Element e : catalog) {
+            if (e.toString().toLowerCase().contains(query.toLowerCase())) result.add(e);
+        }
+        return result;
+    }
+
+    static List<Element> randomCatalog(int n, Random random) {
+        String[] parts = {"Wasser", "Stein", "Feuer", "Luft", "Erde", "Dampf", "Eis", "Kuchen",
+                "Sturm", "Berg", "Wolke", "Blitz", "Erung", "Kristall", "Baum", "Sand"};
+        List<Element> catalog = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            StringBuilder name = new StringBuilder(parts[random.nextInt(parts.length)]);
+            name.append(parts[random.nextInt(parts.length)].toLowerCase());
+            name.append(Integer.toString(i, 36));
+            Element element = new Element(name.toString(), "\u2728");
+            element.id = i + 1;
+            catalog.add(element);
+        }
+        return catalog;
+    }
+}
@@ -0,0 +1,75 @@
+package de.thm.mixit.domain.logic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PlacementEngine}
+ */
+public class PlacementEngineTest {
+
+    private static final float WIDTH = 400;
+    private static final float HEIGHT = 300;
+    private static final float CHIP_WIDTH = 80;
+    private static final float CHIP_HEIGHT = 40;
+
+    private SpatialHashGrid grid;
+    private PlacementEngine engine;
+    private final float[] out = new float[2];
+
+    @Before
+    public void setup() {
+        grid = new SpatialHashGrid(100);
+        engine = new PlacementEngine(grid);
+    }
+
+    @Test
+    public void findFreePosition_OnEmptyBoard_CentersChipOnPreferredPoint() {
+        assertTrue(place(200, 150));
+        assertArrayEquals(new float[] {160, 130}, out, 0.001f);
+    }
+
+    @Test
+    public void findFreePosition_WithOccupiedCenter_ReturnsNearestFreeSlot() {
+        grid.put(1, 160, 130, 240, 170);
+
+        assertTrue(place(200, 150));
+        // One lattice step of half the chip height above the occupied chip
+        assertArrayEquals(new float[] {160, 90}, out, 0.001f);
+        assertFalse(grid.isOccupied(out[0], out[1], out[0] + CHIP_WIDTH, out[1] + CHIP_HEIGHT));
+    }
+
+    @Test
+    public void findFreePosition_NearEdge_KeepsChipInsideArea() {
+        assertTrue(place(0, HEIGHT));
+        assertArrayEquals(new float[] {0, HEIGHT - CHIP_HEIGHT}, out, 0.001f);
+    }
+
+    @Test
+    public void findFreePosition_WhenFillingBoard_NeverOverlaps() {
+        int placed = 0;
+        while (place(200, 150)) {
+            grid.put(placed++, out[0], out[1], out[0] + CHIP_WIDTH, out[1] + CHIP_HEIGHT);
+        }
+        // 5 columns and 7 rows of chips fit into the area
+        assertEquals(35, placed);
+        assertEquals(35, grid.size());
+    }
+
+    @Test
+    public void findFreePosition_OnFullBoard_ReturnsPreferredPosition() {
+        grid.put(1, 0, 0, WIDTH, HEIGHT);
+
+        assertFalse(place(200, 150));
+        assertArrayEquals(new float[] {160, 130}, out, 0.001f);
+    }
+
+    private boolean place(float x, float y) {
+        return engine.findFreePosition(WIDTH, HEIGHT, CHIP_WIDTH, CHIP_HEIGHT, x, y, out);
+    }
+}
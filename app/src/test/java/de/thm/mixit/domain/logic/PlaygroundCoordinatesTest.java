@@ -0,0 +1,71 @@
+package de.thm.mixit.domain.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PlaygroundCoordinates}
+ */
+public class PlaygroundCoordinatesTest {
+
+    private static final float CHIP_WIDTH = 80;
+    private static final float CHIP_HEIGHT = 40;
+
+    private PlaygroundCoordinates coordinates;
+
+    @Before
+    public void setup() {
+        coordinates = new PlaygroundCoordinates();
+        coordinates.setSize(400, 300);
+    }
+
+    @Test
+    public void toNormalized_WithPixelPosition_RoundTripsToSamePixels() {
+        float x = coordinates.toNormalizedX(160, CHIP_WIDTH);
+        float y = coordinates.toNormalizedY(130, CHIP_HEIGHT);
+
+        assertEquals(0.5f, x, 0.001f);
+        assertEquals(0.5f, y, 0.001f);
+        assertEquals(160, coordinates.toPixelX(x, CHIP_WIDTH), 0.001f);
+        assertEquals(130, coordinates.toPixelY(y, CHIP_HEIGHT), 0.001f);
+    }
+
+    @Test
+    public void toPixel_AfterRotation_KeepsRelativePositionInsideBounds() {
+        float x = coordinates.toNormalizedX(320, CHIP_WIDTH);
+        float y = coordinates.toNormalizedY(260, CHIP_HEIGHT);
+
+        coordinates.setSize(300, 400);
+
+        assertEquals(220, coordinates.toPixelX(x, CHIP_WIDTH), 0.001f);
+        assertEquals(360, coordinates.toPixelY(y, CHIP_HEIGHT), 0.001f);
+    }
+
+    @Test
+    public void toNormalized_WithPositionOutsideBounds_LimitsToPlayground() {
+        assertEquals(1, coordinates.toNormalizedX(1000, CHIP_WIDTH), 0.001f);
+        assertEquals(0, coordinates.toNormalizedY(-20, CHIP_HEIGHT), 0.001f);
+        assertEquals(0, coordinates.toNormalizedX(10, 500), 0.001f);
+    }
+
+    @Test
+    public void setSize_WithSameSize_ReturnsFalse() {
+        assertFalse(coordinates.setSize(400, 300));
+        assertTrue(coordinates.setSize(300, 400));
+        assertTrue(coordinates.hasSize());
+        assertFalse(new PlaygroundCoordinates().hasSize());
+    }
+
+    @Test
+    public void isLegacy_WithPixelPosition_ReturnsTrue() {
+        assertTrue(PlaygroundCoordinates.isLegacy(160, 0.5f));
+        assertFalse(PlaygroundCoordinates.isLegacy(1, 0.5f));
+        assertFalse(PlaygroundCoordinates.isLegacy(PlaygroundCoordinates.UNPLACED,
+                PlaygroundCoordinates.UNPLACED));
+        assertTrue(PlaygroundCoordinates.isUnplaced(-1, -1));
+    }
+}
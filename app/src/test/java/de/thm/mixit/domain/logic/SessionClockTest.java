@@ -0,0 +1,66 @@
+package de.thm.mixit.domain.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SessionClock}
+ */
+public class SessionClockTest {
+
+    private long now;
+    private SessionClock clock;
+
+    @Before
+    public void setup() {
+        now = 50_000;
+        clock = new SessionClock(() -> now);
+    }
+
+    @Test
+    public void getElapsedMillis_WhileRunning_ReturnsTimeSinceStart() {
+        clock.reset(2_000);
+        clock.start();
+        now += 1_500;
+
+        assertTrue(clock.isRunning());
+        assertEquals(3_500, clock.getElapsedMillis());
+        assertEquals(3, clock.getElapsedSeconds());
+        assertEquals(500, clock.getMillisUntilNextSecond());
+    }
+
+    @Test
+    public void getElapsedMillis_WhilePaused_DoesNotAdvance() {
+        clock.start();
+        now += 1_000;
+        clock.pause();
+        now += 60_000;
+
+        assertFalse(clock.isRunning());
+        assertEquals(1_000, clock.getElapsedMillis());
+    }
+
+    @Test
+    public void start_WhenAlreadyRunning_KeepsStartTime() {
+        clock.start();
+        now += 700;
+        clock.start();
+        now += 700;
+
+        assertEquals(1_400, clock.getElapsedMillis());
+    }
+
+    @Test
+    public void reset_WhileRunning_ContinuesFromGivenTime() {
+        clock.start();
+        now += 5_000;
+        clock.reset(10_000);
+        now += 250;
+
+        assertEquals(10_250, clock.getElapsedMillis());
+    }
+}
@@ -0,0 +1,116 @@
+package de.thm.mixit.domain.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Tests for {@link SpatialHashGrid}
+ */
+public class SpatialHashGridTest {
+
+    private SpatialHashGrid grid;
+
+    @Before
+    public void setup() {
+        grid = new SpatialHashGrid(100);
+        grid.put(1, 0, 0, 80, 40);
+        grid.put(2, 150, 150, 230, 190);
+        grid.put(3, 190, 170, 270, 210);
+    }
+
+    @Test
+    public void findOverlap_WithMultipleOverlaps_ReturnsLargestOverlap() {
+        assertEquals(3, grid.findOverlap(200, 170, 280, 210, SpatialHashGrid.NO_ID));
+        assertEquals(2, grid.findOverlap(140, 150, 220, 190, SpatialHashGrid.NO_ID));
+    }
+
+    @Test
+    public void findOverlap_WithExcludedId_IgnoresChip() {
+        assertEquals(3, grid.findOverlap(150, 150, 230, 190, 2));
+        assertEquals(SpatialHashGrid.NO_ID, grid.findOverlap(0, 0, 80, 40, 1));
+    }
+
+    @Test
+    public void findOverlap_WithTouchingEdges_ReturnsNoId() {
+        assertFalse(grid.isOccupied(80, 0, 160, 40));
+        assertTrue(grid.isOccupied(79, 0, 160, 40));
+    }
+
+    @Test
+    public void put_WithExistingId_MovesChip() {
+        grid.put(1, 500, -300, 580, -260);
+
+        assertFalse(grid.isOccupied(0, 0, 80, 40));
+        assertEquals(1, grid.findOverlap(510, -290, 520, -280, SpatialHashGrid.NO_ID));
+        assertEquals(3, grid.size());
+    }
+
+    @Test
+    public void remove_WithFirstChip_KeepsOtherChips() {
+        grid.remove(1);
+
+        assertFalse(grid.contains(1));
+        assertFalse(grid.isOccupied(0, 0, 80, 40));
+        assertEquals(2, grid.findOverlap(150, 150, 160, 160, SpatialHashGrid.NO_ID));
+        assertEquals(3, grid.findOverlap(260, 200, 270, 210, SpatialHashGrid.NO_ID));
+    }
+
+    @Test
+    public void findAt_WithStackedChips_ReturnsMostRecentlyPlaced() {
+        assertEquals(3, grid.findAt(200, 180));
+        assertEquals(2, grid.findAt(160, 160));
+
+        grid.put(2, 150, 150, 230, 190);
+
+        assertEquals(2, grid.findAt(200, 180));
+        assertEquals(SpatialHashGrid.NO_ID, grid.findAt(80, 20));
+    }
+
+    @Test
+    public void findOverlap_WithRandomChips_MatchesBruteForce() {
+        Random random = new Random(3);
+        int n = 300;
+        float[][] bounds = new float[n][];
+        SpatialHashGrid large = new SpatialHashGrid(64);
+        for (int round = 0; round < 2000; round++) {
+            int id = random.nextInt(n);
+            if (random.nextInt(4) == 0) {
+                large.remove(id);
+                bounds[id] = null;
+            } else {
+                float x = random.nextFloat() * 2000 - 500;
+                float y = random.nextFloat() * 2000 - 500;
+                bounds[id] = new float[] {x, y, x + 40 + random.nextInt(120), y + 40};
+                large.put(id, bounds[id][0], bounds[id][1], bounds[id][2], bounds[id][3]);
+            }
+
+            float x = random.nextFloat() * 2000 - 500;
+            float y = random.nextFloat() * 2000 - 500;
+            float[] test = {x, y, x + 100, y + 40};
+            assertEquals(bruteForce(bounds, test),
+                    large.findOverlap(test[0], test[1], test[2], test[3], SpatialHashGrid.NO_ID));
+        }
+    }
+
+    private static int bruteForce(float[][] bounds, float[] test) {
+        int found = SpatialHashGrid.NO_ID;
+        float foundArea = 0;
+        for (int id = 0; id < bounds.length; id++) {
+            if (bounds[id] == null) continue;
+            float width = Math.min(test[2], bounds[id][2]) - Math.max(test[0], bounds[id][0]);
+            float height = Math.min(test[3], bounds[id][3]) - Math.max(test[1], bounds[id][1]);
+            if (width <= 0 || height <= 0) continue;
+            if (width * height > foundArea) {
+                found = id;
+                foundArea = width * height;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,74 @@
+package de.thm.mixit.domain.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tests for {@link StartupTrace}
+ */
+public class StartupTraceTest {
+
+    private long now;
+    private StartupTrace trace;
+
+    @Before
+    public void setup() {
+        now = 0;
+        trace = new StartupTrace(() -> now);
+    }
+
+    @Test
+    public void getCriticalPath_WithDependentSpan_FollowsLatestDependency() {
+        trace.begin("elements");
+        trace.begin("snapshot");
+        trace.begin("statistics");
+        now = 10;
+        trace.end("statistics");
+        now = 20;
+        trace.end("snapshot");
+        trace.begin("target", "snapshot", "statistics");
+        now = 30;
+        trace.end("elements");
+        now = 90;
+        trace.end("target");
+
+        assertEquals(Arrays.asList("snapshot", "target"), trace.getCriticalPath());
+    }
+
+    @Test
+    public void getCriticalPath_WithIndependentSpans_ReturnsSpanEndingLast() {
+        trace.begin("elements");
+        trace.begin("snapshot");
+        now = 5;
+        trace.end("snapshot");
+        now = 40;
+        trace.end("elements");
+
+        assertEquals(Collections.singletonList("elements"), trace.getCriticalPath());
+    }
+
+    @Test
+    public void trace_WithFailedLoad_EndsSpan() {
+        CompletableFuture<String> load = new CompletableFuture<>();
+        trace.trace("target", () -> load);
+        now = 1_000_000;
+        load.completeExceptionally(new IllegalStateException());
+
+        assertEquals(Collections.singletonList("target"), trace.getCriticalPath());
+        assertTrue(trace.format().contains("1.0 ms"));
+    }
+
+    @Test
+    public void format_WithRunningSpan_ShowsRunning() {
+        trace.begin("snapshot");
+
+        assertTrue(trace.format().contains("running"));
+    }
+}
@@ -1,11 +1,17 @@
 package de.thm.mixit.ui.viewmodel;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -16,6 +22,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -23,13 +30,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import de.thm.mixit.data.entity.Element;
 import de.thm.mixit.data.entity.GameState;
-import de.thm.mixit.data.entity.Statistic;
 import de.thm.mixit.data.model.ElementChip;
+import de.thm.mixit.data.model.PlaygroundEvent;
 import de.thm.mixit.data.model.Result;
+import de.thm.mixit.domain.logic.SessionClock;
 import de.thm.mixit.domain.usecase.CombinationUseCase;
 import de.thm.mixit.domain.usecase.GameStateUseCase;
 import de.thm.mixit.util.LiveDataTestUtil;
@@ -52,8 +63,11 @@ public class GameViewModelTest {
     private CombinationUseCase mockCombinationUseCase;
     @Mock
     private GameStateUseCase mockGameStateUseCase;
+    @Mock
+    private ScheduledExecutorService mockSearchExecutor;
 
     private GameViewModel viewModel;
+    private long clockTime = 0;
 
     @Before
     public void setup() {
@@ -62,19 +76,36 @@ public class GameViewModelTest {
                 new Element("Erde", "\uD83C\uDF0D"),
                 new Element("Feuer", "\uD83D\uDD25"),
                 new Element("Luft", "\uD83C\uDF2C️")));
-        viewModel = new GameViewModel(mockCombinationUseCase, mockGameStateUseCase);
+        mockSearchExecutorRunsImmediately();
+        viewModel = new GameViewModel(mockCombinationUseCase, mockGameStateUseCase, Runnable::run,
+                mockSearchExecutor, new SessionClock(() -> clockTime));
         mockGameStateRepositoryLoad();
         viewModel.load();
     }
 
     @Test
     public void loadElements_onInit_callsRepository() {
-        verify(mockGameStateUseCase, times(1)).getAllElements(any());
+        verify(mockGameStateUseCase, times(1))
+                .getElementPage(eq(0), eq(GameViewModel.PAGE_SIZE), any());
         List<Element> elements = viewModel.getElements().getValue();
         assertNotNull(elements);
         assertEquals(4, elements.size());
     }
 
+    @Test
+    public void load_WithoutTargetElement_ShowsGeneratedTarget() {
+        String[] target = {"Dampf", "Wolke"};
+        GameState gameState = new GameState(0, 0, null, new ArrayList<>());
+        doAnswer(invocation -> CompletableFuture.completedFuture(gameState))
+                .when(mockGameStateUseCase).loadGameStateAsync();
+        doAnswer(invocation -> CompletableFuture.completedFuture(target))
+                .when(mockGameStateUseCase).generateTargetWordAsync(eq(gameState), any());
+
+        viewModel.load();
+
+        assertArrayEquals(target, viewModel.getTargetElement().getValue());
+    }
+
     @Test
     public void filter_WithMatchingSearchQuery_ReturnsFilteredElements()
             throws InterruptedException {
@@ -106,6 +137,28 @@ public class GameViewModelTest {
         assertTrue(filtered.containsAll(allElements));
     }
 
+    @Test
+    public void filter_WithSupersededQuery_PublishesOnlyLatestResult()
+            throws InterruptedException {
+        List<Runnable> scheduled = new ArrayList<>();
+        lenient().doAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return null;
+        }).when(mockSearchExecutor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        viewModel.onSearchQueryChanged("Was");
+        viewModel.onSearchQueryChanged("Feu");
+        // Run the searches in the order they were scheduled
+        scheduled.forEach(Runnable::run);
+        List<Element> filtered = LiveDataTestUtil.getOrAwaitValue(viewModel.getFilteredElements());
+
+        assertEquals(2, scheduled.size());
+        assertEquals(1, filtered.size());
+        assertEquals("Feuer", filtered.get(0).name);
+        verify(mockSearchExecutor, times(2)).schedule(any(Runnable.class),
+                eq(GameViewModel.SEARCH_DEBOUNCE_MS), eq(TimeUnit.MILLISECONDS));
+    }
+
 
     @Test
     public void addElementToPlayground_WithValidElement_AddsElementToPlayground()
@@ -142,6 +195,56 @@ public class GameViewModelTest {
 
     }
 
+    @Test
+    public void updateElementPositionOnPlayground_WithValidChip_PublishesMovedEvent()
+            throws InterruptedException {
+        ElementChip elementChip = new ElementChip(new Element("Feuer", "\uD83D\uDD25"), 0, 0);
+        viewModel.addElementToPlayground(elementChip);
+        int version = viewModel.getPlaygroundVersion();
+
+        viewModel.updateElementPositonOnPlayground(elementChip, 10, 20);
+        PlaygroundEvent event = LiveDataTestUtil.getOrAwaitValue(viewModel.getPlaygroundEvents());
+
+        assertEquals(PlaygroundEvent.Type.MOVED, event.getType());
+        assertEquals(version + 1, event.getVersion());
+        assertEquals(elementChip.getId(), event.getChip().getId());
+        assertEquals(10, event.getChip().getX(), 0.01);
+    }
+
+    @Test
+    public void save_AfterClockWasPaused_SavesOnlyResumedTime() {
+        viewModel.resumeClock();
+        clockTime += 1_500;
+        viewModel.pauseClock();
+        clockTime += 10_000;
+
+        viewModel.save();
+
+        ArgumentCaptor<GameState> captor = ArgumentCaptor.forClass(GameState.class);
+        verify(mockGameStateUseCase).save(captor.capture());
+        assertEquals(1_500, captor.getValue().getTimeMillis());
+        viewModel.refreshPassedTime();
+        assertEquals(Long.valueOf(1), viewModel.getPassedTime().getValue());
+    }
+
+    @Test
+    public void combineElements_WithValidReactants_PublishesCombinedEvent()
+            throws InterruptedException {
+        ElementChip chip1 = new ElementChip(new Element("Wasser", "\uD83D\uDCA7"));
+        ElementChip chip2 = new ElementChip(new Element("Erde", "\uD83C\uDF0D"));
+        viewModel.addElementToPlayground(chip1);
+        viewModel.addElementToPlayground(chip2);
+        mockElementUseCaseGetElement(Result.success(new Element("Pflanze", "\uD83C\uDF31")));
+
+        viewModel.combineElements(chip1, chip2);
+        PlaygroundEvent event = LiveDataTestUtil.getOrAwaitValue(viewModel.getPlaygroundEvents());
+
+        assertEquals(PlaygroundEvent.Type.COMBINED, event.getType());
+        assertEquals("Pflanze", event.getChip().getElement().name);
+        assertEquals(chip1, event.getReactant1());
+        assertEquals(chip2, event.getReactant2());
+    }
+
     @Test
     public void combineElements_WithValidReactants_AddsProductToPlayground()
             throws InterruptedException {
@@ -184,6 +287,27 @@ public class GameViewModelTest {
         assertEquals("Erde", result.get(1).getElement().name);
     }
 
+    @Test
+    public void combineElements_WithFailedCombination_PublishesCombinationFailedEvent()
+            throws InterruptedException {
+        ElementChip chip1 = new ElementChip(new Element("Wasser", "\uD83D\uDCA7"));
+        ElementChip chip2 = new ElementChip(new Element("Erde", "\uD83C\uDF0D"));
+        viewModel.addElementToPlayground(chip1);
+        viewModel.addElementToPlayground(chip2);
+        chip1.setAnimated(true);
+        chip2.setAnimated(true);
+        mockElementUseCaseGetElement(Result.failure(new Throwable("An error occurred")));
+
+        viewModel.combineElements(chip1, chip2);
+        PlaygroundEvent event = LiveDataTestUtil.getOrAwaitValue(viewModel.getPlaygroundEvents());
+
+        assertEquals(PlaygroundEvent.Type.COMBINATION_FAILED, event.getType());
+        assertEquals(chip1, event.getReactant1());
+        assertEquals(chip2, event.getReactant2());
+        assertFalse(chip1.isAnimated());
+        assertFalse(chip2.isAnimated());
+    }
+
     @Test
     public void removeElementFromPlayground_WithValidElement_RemoveOnlyGivenElement()
             throws InterruptedException {
@@ -213,10 +337,18 @@ public class GameViewModelTest {
 
     private void mockGameStateUseCaseGetAllElements(List<Element> list) {
         doAnswer(invocation -> {
-            Consumer<List<Element>> callback = invocation.getArgument(0);
+            Consumer<List<Element>> callback = invocation.getArgument(2);
             callback.accept(list);
             return null;
-        }).when(mockGameStateUseCase).getAllElements(any());
+        }).when(mockGameStateUseCase).getElementPage(anyInt(), anyInt(), any());
+    }
+
+    private void mockSearchExecutorRunsImmediately() {
+        lenient().doAnswer(invocation -> {
+            Runnable task = invocation.getArgument(0);
+            task.run();
+            return null;
+        }).when(mockSearchExecutor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
     }
 
     private void mockElementUseCaseGetElement(Result<Element> result) {
@@ -229,12 +361,10 @@ public class GameViewModelTest {
 
     private void mockGameStateRepositoryLoad() {
         GameState dummyGameState = new GameState(0, 0, new String[0], new ArrayList<>());
-        Statistic dummyStatistics = new Statistic(0,0, "Wasser", 0, 0,0,0,
-                0,0,0, false, new ArrayList<>());
 
-        doAnswer(invocation -> dummyGameState)
-                .when(mockGameStateUseCase).getGameState();
-        doAnswer(invocation -> dummyStatistics)
-                .when(mockGameStateUseCase).getStatistics();
+        doAnswer(invocation -> CompletableFuture.completedFuture(dummyGameState))
+                .when(mockGameStateUseCase).loadGameStateAsync();
+        doAnswer(invocation -> CompletableFuture.completedFuture(Collections.emptyList()))
+                .when(mockGameStateUseCase).getLastTargetWordsAsync();
     }
 }
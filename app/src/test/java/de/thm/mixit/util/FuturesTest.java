@@ -0,0 +1,91 @@
+package de.thm.mixit.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import de.thm.mixit.data.model.Result;
+
+/**
+ * Tests for {@link Futures}
+ */
+public class FuturesTest {
+
+    @Test
+    public void fromResult_WithFailure_CompletesExceptionally() {
+        IllegalStateException error = new IllegalStateException("failed");
+
+        CompletableFuture<String> future =
+                Futures.fromResult(callback -> callback.accept(Result.failure(error)));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+        assertSame(error, thrown.getCause());
+    }
+
+    @Test
+    public void fromCallback_WithValue_CompletesWithValue() throws Exception {
+        CompletableFuture<String> future = Futures.fromCallback(callback -> callback.accept("a"));
+
+        assertEquals("a", future.get());
+    }
+
+    @Test
+    public void withTimeout_WhenNotCompletedInTime_FailsWithTimeout() {
+        CompletableFuture<String> future =
+                Futures.withTimeout(new CompletableFuture<>(), 10, TimeUnit.MILLISECONDS);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(thrown.getCause() instanceof TimeoutException);
+    }
+
+    @Test
+    public void withTimeout_WhenCompletedLate_KeepsLateValue() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> late = source.thenApply(value -> value + "b");
+
+        CompletableFuture<String> timed = Futures.withTimeout(source, 10, TimeUnit.MILLISECONDS);
+        assertThrows(ExecutionException.class, () -> timed.get(5, TimeUnit.SECONDS));
+        source.complete("a");
+
+        assertEquals("ab", late.get());
+    }
+
+    @Test
+    public void withTimeout_WhenCompletedInTime_CompletesWithValue() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+
+        CompletableFuture<String> timed = Futures.withTimeout(source, 5, TimeUnit.SECONDS);
+        source.complete("a");
+
+        assertEquals("a", timed.get());
+    }
+
+    @Test
+    public void toResult_WithFailedStage_DeliversUnwrappedError() {
+        IllegalStateException error = new IllegalStateException("failed");
+        AtomicReference<Result<String>> delivered = new AtomicReference<>();
+
+        CompletableFuture.completedFuture("a")
+                .<String>thenApply(value -> { throw new CompletionException(error); })
+                .whenComplete(Futures.toResult(delivered::set));
+
+        assertTrue(delivered.get().isError());
+        assertSame(error, delivered.get().getError());
+    }
+
+    @Test
+    public void cancelled_Always_ReturnsCancelledFuture() {
+        assertTrue(Futures.cancelled().isCancelled());
+    }
+}